@@ -0,0 +1,47 @@
+package org.example.coffee.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 카탈로그(상품 목록) 캐시
+    public static final String LATEST_PRODUCTS = "latestProducts";
+    public static final String BEST_PRODUCTS = "bestProducts";
+    public static final String PRODUCTS_BY_CONTINENT = "productsByContinent";
+    public static final String PRODUCTS_BY_NATIONALITY = "productsByNationality";
+    public static final String PRODUCTS_BY_TYPE = "productsByType";
+
+    public static final List<String> CATALOG_CACHES = List.of(
+            LATEST_PRODUCTS,
+            BEST_PRODUCTS,
+            PRODUCTS_BY_CONTINENT,
+            PRODUCTS_BY_NATIONALITY,
+            PRODUCTS_BY_TYPE
+    );
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.catalog.maximum-size}") long maximumSize,
+            @Value("${app.cache.catalog.ttl-seconds}") long ttlSeconds
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats());
+        cacheManager.setCacheNames(CATALOG_CACHES);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.coffee.config;
+
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import org.example.coffee.event.CatalogChangedEvent.Section;
+import org.example.coffee.service.CatalogVersion;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공개 조회 API의 조건부 GET 처리
+ * ETag는 응답 본문 해시가 아니라 CatalogVersion 카운터로 만들고,
+ * If-None-Match / If-Modified-Since가 일치하면 컨트롤러 실행 전에 304를 돌려준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    public static final String PRODUCTS = "/api/products/**";
+    public static final String PRODUCT_REVIEWS = "/api/reviews/product/**";
+    public static final String PRODUCT_INQUIRIES = "/api/inquiries/product/**";
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final CatalogVersion catalogVersion;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Policy policy = policyOf(path);
+        if (policy == null) {
+            return true;
+        }
+
+        StringBuilder etag = new StringBuilder("\"");
+        long lastModified = 0;
+        for (Section section : policy.sections()) {
+            etag.append(section.name().charAt(0)).append(catalogVersion.version(section)).append('-');
+            lastModified = Math.max(lastModified, catalogVersion.lastModified(section));
+        }
+        if (policy.perUser()) {
+            etag.append('u').append(currentUserId());
+        } else {
+            etag.setLength(etag.length() - 1);
+        }
+        etag.append('"');
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, policy.cacheControl());
+        if (policy.perUser()) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        }
+
+        // 일치하면 304 + 헤더 설정 후 핸들러 실행 중단
+        return !new ServletWebRequest(request, response).checkNotModified(etag.toString(), lastModified);
+    }
+
+    private Policy policyOf(String path) {
+        if (PATH_MATCHER.match("/api/products/*/page", path)) {
+            // 상세 화면 응답에는 리뷰 통계와 문의 개수가 포함된다
+            return new Policy(List.of(Section.PRODUCT, Section.REVIEW, Section.INQUIRY),
+                    "public, max-age=30", false);
+        }
+        if (PATH_MATCHER.match(PRODUCTS, path)) {
+            return new Policy(List.of(Section.PRODUCT), "public, max-age=60", false);
+        }
+        if (PATH_MATCHER.match(PRODUCT_REVIEWS, path)) {
+            return new Policy(List.of(Section.REVIEW), "public, max-age=30", false);
+        }
+        if (PATH_MATCHER.match(PRODUCT_INQUIRIES, path)) {
+            // 비밀글 노출 여부가 사용자마다 다르므로 개인 캐시 + 매번 재검증
+            return new Policy(List.of(Section.INQUIRY), "private, no-cache", true);
+        }
+        return null;
+    }
+
+    private String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return String.valueOf(userId);
+        }
+        return "anon";
+    }
+
+    private record Policy(List<Section> sections, String cacheControl, boolean perUser) {
+    }
+}
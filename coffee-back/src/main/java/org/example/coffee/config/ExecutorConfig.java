@@ -0,0 +1,24 @@
+package org.example.coffee.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // 요청 하나에서 독립적인 조회를 병렬로 실행할 때 사용
+    @Bean
+    public Executor queryExecutor(@Value("${app.executor.query.pool-size}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 50);
+        executor.setThreadNamePrefix("query-");
+        executor.initialize();
+        return executor;
+    }
+}
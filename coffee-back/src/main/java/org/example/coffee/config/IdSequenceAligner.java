@@ -0,0 +1,57 @@
+package org.example.coffee.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MySQL에서 시퀀스 ID 테이블을 기존 AUTO_INCREMENT 데이터 뒤로 맞춘다.
+ * order_item이 IDENTITY에서 시퀀스(order_item_seq 테이블)로 바뀌었으므로,
+ * 새로 만들어진 시퀀스가 이미 쓰인 ID를 다시 내주지 않도록 기동 시 한 번 올려 둔다.
+ * 스키마 갱신이 끝난 뒤 실행되도록 EntityManagerFactory에 의존한다.
+ */
+@Slf4j
+@Component
+public class IdSequenceAligner implements InitializingBean {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                             EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql")) {
+                return;
+            }
+        }
+        align("order_item_seq", "order_item", "order_item_id");
+    }
+
+    private void align(String sequenceTable, String table, String idColumn) {
+        int updated = jdbcTemplate.update(
+                "UPDATE " + sequenceTable + " SET next_val = " +
+                        "(SELECT COALESCE(MAX(" + idColumn + "), 0) + 1 + ? FROM " + table + ") " +
+                        "WHERE next_val <= (SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table + ")",
+                ALLOCATION_SIZE);
+        if (updated > 0) {
+            log.info("id sequence aligned: {}", sequenceTable);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.coffee.config;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * JdbcTemplate 으로 시각을 바인딩할 때 Hibernate 와 같은 방식으로 넣는다.
+ * 엔티티/JPA 쿼리의 LocalDateTime 은 hibernate.jdbc.time_zone 달력으로 바인딩되므로,
+ * JDBC 배치에서도 같은 달력을 써야 애플리케이션 시각 기준 컬럼(커서, 만료 기준)이 한 시계로 맞는다.
+ */
+@Component
+public class JdbcTimestamps {
+
+    private final TimeZone timeZone;
+
+    public JdbcTimestamps(@Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String timeZone) {
+        this.timeZone = timeZone.isBlank() ? TimeZone.getDefault() : TimeZone.getTimeZone(timeZone);
+    }
+
+    public void set(PreparedStatement ps, int index, LocalDateTime time) throws SQLException {
+        ps.setTimestamp(index, Timestamp.valueOf(time), Calendar.getInstance(timeZone));
+    }
+}
@@ -1,14 +1,30 @@
 package org.example.coffee.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
-public class WebConfig {
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
 
     @Bean
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns(
+                        ConditionalGetInterceptor.PRODUCTS,
+                        ConditionalGetInterceptor.PRODUCT_REVIEWS,
+                        ConditionalGetInterceptor.PRODUCT_INQUIRIES
+                );
+    }
 }
@@ -6,6 +6,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import org.example.coffee.dto.CartItemResponse;
+import org.example.coffee.dto.CartQuantityRequest;
 import org.example.coffee.dto.CartRequest;
 import org.example.coffee.service.CartService;
 
@@ -30,6 +31,28 @@ public class CartController {
         return cartService.addToCart(userId, request);
     }
 
+    // 여러 상품 한 번에 담기 (변경 후 장바구니 전체 반환)
+    @PostMapping("/bulk")
+    public List<CartItemResponse> addAll(Authentication authentication, @RequestBody List<CartRequest> requests) {
+        Long userId = (Long) authentication.getPrincipal();
+        return cartService.addAll(userId, requests);
+    }
+
+    // 수량 일괄 변경 (0 이하는 삭제)
+    @PatchMapping("/bulk")
+    public List<CartItemResponse> updateQuantities(Authentication authentication,
+                                                   @RequestBody List<CartQuantityRequest> requests) {
+        Long userId = (Long) authentication.getPrincipal();
+        return cartService.updateQuantities(userId, requests);
+    }
+
+    // 선택 삭제 (?ids=1,2,3)
+    @DeleteMapping("/bulk")
+    public void removeAll(Authentication authentication, @RequestParam List<Long> ids) {
+        Long userId = (Long) authentication.getPrincipal();
+        cartService.removeAll(userId, ids);
+    }
+
     @PatchMapping("/{cartItemId}")
     public void updateQuantity(@PathVariable Long cartItemId, @RequestParam int quantity) {
         cartService.updateQuantity(cartItemId, quantity);
@@ -6,6 +6,7 @@ import java.util.Map;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import org.example.coffee.dto.CursorPageResponse;
 import org.example.coffee.dto.InquiryRequest;
 import org.example.coffee.dto.InquiryResponse;
 import org.example.coffee.service.InquiryService;
@@ -46,9 +47,12 @@ public class InquiryController {
 
     // 내 문의 목록 조회
     @GetMapping("/my")
-    public List<InquiryResponse> getMyInquiries(Authentication authentication) {
+    public CursorPageResponse<InquiryResponse> getMyInquiries(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         Long userId = (Long) authentication.getPrincipal();
-        return inquiryService.getMyInquiries(userId);
+        return inquiryService.getMyInquiries(userId, cursor, size);
     }
 
     // 문의 작성
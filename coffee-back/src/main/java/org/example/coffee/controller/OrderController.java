@@ -1,12 +1,16 @@
 package org.example.coffee.controller;
 
-import java.util.List;
-
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import org.example.coffee.dto.CheckoutTicketResponse;
+import org.example.coffee.dto.CursorPageResponse;
 import org.example.coffee.dto.OrderRequest;
 import org.example.coffee.dto.OrderResponse;
+import org.example.coffee.service.CheckoutQueue;
+import org.example.coffee.service.OrderIdempotencyService;
 import org.example.coffee.service.OrderService;
 
 import lombok.RequiredArgsConstructor;
@@ -17,11 +21,17 @@ import lombok.RequiredArgsConstructor;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final CheckoutQueue checkoutQueue;
 
+    // 주문 내역 (커서 페이지)
     @GetMapping
-    public List<OrderResponse> getMyOrders(Authentication authentication) {
+    public CursorPageResponse<OrderResponse> getMyOrders(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         Long userId = (Long) authentication.getPrincipal();
-        return orderService.getOrdersByUserId(userId);
+        return orderService.getOrdersByUserId(userId, cursor, size);
     }
 
     @GetMapping("/{orderId}")
@@ -30,9 +40,39 @@ public class OrderController {
         return orderService.getOrderById(orderId, userId);
     }
 
+    // Idempotency-Key가 같은 재시도는 처음 만든 주문(티켓)을 그대로 돌려준다
+    // 비동기 모드면 202 + 티켓, 결과는 /checkout/{ticketId}로 조회
     @PostMapping
-    public OrderResponse createOrder(Authentication authentication, @RequestBody OrderRequest request) {
+    public ResponseEntity<?> createOrder(
+            Authentication authentication,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody OrderRequest request) {
+        Long userId = (Long) authentication.getPrincipal();
+        if (checkoutQueue.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(checkoutQueue.submit(userId, idempotencyKey, request));
+        }
+        return ResponseEntity.ok(orderIdempotencyService.createOrder(userId, idempotencyKey, request));
+    }
+
+    // 비동기 주문 처리 상태 (QUEUED, COMPLETED, FAILED)
+    @GetMapping("/checkout/{ticketId}")
+    public CheckoutTicketResponse getCheckoutTicket(@PathVariable String ticketId, Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        return checkoutQueue.getTicket(ticketId, userId);
+    }
+
+    // 주문 취소 (배송 시작 전까지)
+    @PostMapping("/{orderId}/cancel")
+    public OrderResponse cancelOrder(@PathVariable Long orderId, Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        return orderService.cancelOrder(orderId, userId);
+    }
+
+    // 구매 확정 (배송중 -> 배송완료)
+    @PostMapping("/{orderId}/confirm")
+    public OrderResponse confirmDelivery(@PathVariable Long orderId, Authentication authentication) {
         Long userId = (Long) authentication.getPrincipal();
-        return orderService.createOrder(userId, request);
+        return orderService.confirmDelivery(orderId, userId);
     }
 }
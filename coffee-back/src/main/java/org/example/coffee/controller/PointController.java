@@ -1,11 +1,11 @@
 package org.example.coffee.controller;
 
-import java.util.List;
 import java.util.Map;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import org.example.coffee.dto.CursorPageResponse;
 import org.example.coffee.dto.PointHistoryResponse;
 import org.example.coffee.service.PointService;
 
@@ -18,11 +18,13 @@ public class PointController {
 
     private final PointService pointService;
 
+    // 현재 포인트 + 내역 첫 페이지 (다음 페이지는 /history?cursor=)
     @GetMapping
-    public Map<String, Object> getMyPoint(Authentication authentication) {
+    public Map<String, Object> getMyPoint(Authentication authentication,
+                                          @RequestParam(defaultValue = "20") int size) {
         Long userId = (Long) authentication.getPrincipal();
         Integer currentPoint = pointService.getCurrentPoint(userId);
-        List<PointHistoryResponse> history = pointService.getPointHistory(userId);
+        CursorPageResponse<PointHistoryResponse> history = pointService.getPointHistory(userId, null, size);
 
         return Map.of(
             "currentPoint", currentPoint,
@@ -31,8 +33,11 @@ public class PointController {
     }
 
     @GetMapping("/history")
-    public List<PointHistoryResponse> getPointHistory(Authentication authentication) {
+    public CursorPageResponse<PointHistoryResponse> getPointHistory(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         Long userId = (Long) authentication.getPrincipal();
-        return pointService.getPointHistory(userId);
+        return pointService.getPointHistory(userId, cursor, size);
     }
 }
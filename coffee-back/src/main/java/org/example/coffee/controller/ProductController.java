@@ -2,15 +2,25 @@ package org.example.coffee.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import org.example.coffee.dto.CursorPageResponse;
 import org.example.coffee.dto.ProductDetailResponse;
+import org.example.coffee.dto.ProductFacetResponse;
 import org.example.coffee.dto.ProductListResponse;
+import org.example.coffee.dto.ProductPageResponse;
+import org.example.coffee.dto.ProductSuggestionResponse;
+import org.example.coffee.service.BestSellerRanking;
+import org.example.coffee.service.CatalogResponseCache;
 import org.example.coffee.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
@@ -22,17 +32,56 @@ import lombok.RequiredArgsConstructor;
 public class ProductController {
 
     private final ProductService productService;
+    private final CatalogResponseCache catalogResponseCache;
 
-    // 최근 입고
+    // 최근 입고 (미리 직렬화된 JSON)
     @GetMapping("/latest")
-    public List<ProductListResponse> getLatest() {
-        return productService.getLatestProducts();
+    public ResponseEntity<byte[]> getLatest(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return toResponse(catalogResponseCache.get("latest", productService::getLatestProducts), acceptEncoding);
     }
 
-    // 베스트 셀렉션
+    // 베스트 셀렉션 (최근 7일 또는 30일 판매량 기준, 미리 직렬화된 JSON)
     @GetMapping("/best")
-    public List<ProductListResponse> getBest() {
-        return productService.getBestProducts();
+    public ResponseEntity<byte[]> getBest(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        int window = days <= BestSellerRanking.SHORT_WINDOW_DAYS
+                ? BestSellerRanking.SHORT_WINDOW_DAYS
+                : BestSellerRanking.LONG_WINDOW_DAYS;
+        return toResponse(catalogResponseCache.get("best:" + window, () -> productService.getBestProducts(window)),
+                acceptEncoding);
+    }
+
+    // 상품 검색 (부분 일치, 점수순, inStockOnly=true면 품절 제외)
+    @GetMapping("/search")
+    public List<ProductListResponse> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "false") boolean inStockOnly) {
+        return productService.searchProducts(q, limit, inStockOnly);
+    }
+
+    // 검색어 자동완성
+    @GetMapping("/autocomplete")
+    public List<ProductSuggestionResponse> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return productService.autocomplete(q, limit);
+    }
+
+    // 여러 상품 한 번에 조회 (장바구니/주문/찜 화면), 입력 순서대로 반환
+    // 예: /batch?ids=3,1,7
+    @GetMapping("/batch")
+    public List<ProductListResponse> getBatch(@RequestParam List<Long> ids) {
+        return productService.getProductsByIds(ids);
+    }
+
+    // 여러 상품 상세 한 번에 조회 (옵션, 이미지 포함)
+    // 예: /batch?ids=3,1,7&detail=true
+    @GetMapping(value = "/batch", params = "detail=true")
+    public List<ProductDetailResponse> getBatchDetail(@RequestParam List<Long> ids) {
+        return productService.getProductDetailsByIds(ids);
     }
 
     // 상품 상세 (옵션, 이미지 포함)
@@ -41,21 +90,63 @@ public class ProductController {
         return productService.getProductDetailWithOptions(productId);
     }
 
-    // 원산지별 필터
+    // 상품 상세 화면 (상세 + 리뷰 통계 + 문의 개수)
+    @GetMapping("/{productId}/page")
+    public ProductPageResponse getPage(@PathVariable Long productId) {
+        return productService.getProductPage(productId);
+    }
+
+    // 복합 필터 (대륙 + 원산지 + 가공방식 + 가격대, 패싯별 개수 포함, 품절 제외 선택)
+    // 예: /filter?continent=아프리카&type=워시드&type=내추럴
+    @GetMapping("/filter")
+    public ProductFacetResponse filter(
+            @RequestParam(required = false) List<String> continent,
+            @RequestParam(required = false) List<String> nationality,
+            @RequestParam(required = false) List<String> type,
+            @RequestParam(required = false) List<String> priceBand,
+            @RequestParam(defaultValue = "false") boolean inStockOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return productService.filterProducts(continent, nationality, type, priceBand, inStockOnly, cursor, size);
+    }
+
+    // 원산지별 필터 (커서 페이지)
     @GetMapping("/filter/nationality")
-    public List<ProductListResponse> getByNationality(@RequestParam String value) {
-        return productService.getProductsByNationality(value);
+    public CursorPageResponse<ProductListResponse> getByNationality(
+            @RequestParam String value,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean inStockOnly) {
+        return productService.getProductsByNationality(value, cursor, size, inStockOnly);
     }
 
-    // 가공방식별 필터
+    // 가공방식별 필터 (커서 페이지)
     @GetMapping("/filter/type")
-    public List<ProductListResponse> getByType(@RequestParam String value) {
-        return productService.getProductsByType(value);
+    public CursorPageResponse<ProductListResponse> getByType(
+            @RequestParam String value,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean inStockOnly) {
+        return productService.getProductsByType(value, cursor, size, inStockOnly);
     }
 
-    // 대륙별 필터
+    // 대륙별 필터 (커서 페이지)
     @GetMapping("/filter/continent")
-    public List<ProductListResponse> getByContinent(@RequestParam String value) {
-        return productService.getProductsByContinent(value);
+    public CursorPageResponse<ProductListResponse> getByContinent(
+            @RequestParam String value,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean inStockOnly) {
+        return productService.getProductsByContinent(value, cursor, size, inStockOnly);
+    }
+
+    private ResponseEntity<byte[]> toResponse(CatalogResponseCache.Body body, String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return builder.body(body.json());
     }
 }
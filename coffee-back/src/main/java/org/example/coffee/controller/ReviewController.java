@@ -6,6 +6,7 @@ import java.util.Map;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import org.example.coffee.dto.CursorPageResponse;
 import org.example.coffee.dto.ReviewRequest;
 import org.example.coffee.dto.ReviewResponse;
 import org.example.coffee.service.ReviewService;
@@ -33,9 +34,12 @@ public class ReviewController {
 
     // 내 리뷰 조회
     @GetMapping("/my")
-    public List<ReviewResponse> getMyReviews(Authentication authentication) {
+    public CursorPageResponse<ReviewResponse> getMyReviews(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         Long userId = (Long) authentication.getPrincipal();
-        return reviewService.getReviewsByUserId(userId);
+        return reviewService.getReviewsByUserId(userId, cursor, size);
     }
 
     // 리뷰 작성
@@ -0,0 +1,13 @@
+package org.example.coffee.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 장바구니 수량 일괄 변경 (quantity가 0 이하면 삭제)
+@Getter
+@Setter
+public class CartQuantityRequest {
+
+    private Long cartItemId;
+    private int quantity;
+}
@@ -0,0 +1,15 @@
+package org.example.coffee.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 비동기 주문 접수 결과 (status가 COMPLETED면 orderId로 주문 상세 조회)
+@Getter
+@Builder
+public class CheckoutTicketResponse {
+
+    private String ticketId;
+    private String status;
+    private Long orderId;
+    private String message;
+}
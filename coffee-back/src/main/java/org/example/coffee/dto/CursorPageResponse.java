@@ -0,0 +1,16 @@
+package org.example.coffee.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 커서 기반 페이지 응답 (nextCursor를 다음 요청의 cursor로 그대로 전달)
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package org.example.coffee.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProductFacetResponse {
+
+    private int total;
+    private List<ProductListResponse> products;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // 패싯별 값 -> 상품 수 (예: continent -> {아프리카: 12, 중남미: 7})
+    private Map<String, Map<String, Integer>> facets;
+}
@@ -2,9 +2,10 @@ package org.example.coffee.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import org.example.coffee.entity.Product;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class ProductListResponse {
 
     private Long productId;
@@ -14,4 +15,20 @@ public class ProductListResponse {
     private String nationality;
     private String type;
     private String thumbnailImg;
+
+    // 재고 행이 있는 옵션이 모두 품절이면 false (ProductAvailability)
+    @Builder.Default
+    private boolean inStock = true;
+
+    public static ProductListResponse from(Product product) {
+        return ProductListResponse.builder()
+                .productId(product.getProductId())
+                .productName(product.getProductName())
+                .basePrice(product.getBasePrice())
+                .continent(product.getContinent())
+                .nationality(product.getNationality())
+                .type(product.getType())
+                .thumbnailImg(product.getThumbnailImg())
+                .build();
+    }
 }
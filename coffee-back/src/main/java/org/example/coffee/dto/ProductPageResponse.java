@@ -0,0 +1,15 @@
+package org.example.coffee.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 상품 상세 화면 한 번에 조회 (상품 + 옵션/이미지 + 리뷰 통계 + 문의 개수)
+@Getter
+@Builder
+public class ProductPageResponse {
+
+    private ProductDetailResponse product;
+    private double averageRating;
+    private long reviewCount;
+    private long inquiryCount;
+}
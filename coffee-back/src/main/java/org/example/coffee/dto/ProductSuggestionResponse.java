@@ -0,0 +1,14 @@
+package org.example.coffee.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 검색어 자동완성 항목
+@Getter
+@Builder
+public class ProductSuggestionResponse {
+
+    private String text;
+    private String kind;      // PRODUCT, COUNTRY, TYPE
+    private Long productId;   // kind == PRODUCT 일 때만
+}
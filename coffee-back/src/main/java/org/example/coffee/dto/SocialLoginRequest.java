@@ -1,5 +1,7 @@
 package org.example.coffee.dto;
 
+import java.util.List;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -8,4 +10,5 @@ import lombok.Setter;
 public class SocialLoginRequest {
     private String provider;      // KAKAO, NAVER, GOOGLE
     private String accessToken;   // 소셜에서 받은 access token
+    private List<CartRequest> guestCart;  // 비로그인 상태에서 담은 장바구니 (로그인 시 합침)
 }
@@ -3,6 +3,7 @@ package org.example.coffee.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -47,6 +48,11 @@ public class CartItem {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    // 마지막으로 담거나 수량을 바꾼 시각 (오래된 장바구니 정리 기준)
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     public void addQuantity(int qty) {
         this.quantity += qty;
     }
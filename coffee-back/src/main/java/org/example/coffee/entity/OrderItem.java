@@ -12,8 +12,11 @@ import lombok.*;
 @Builder
 public class OrderItem {
 
+    // IDENTITY는 insert마다 키를 받아야 해서 JDBC 배치가 꺼진다 -> 50개씩 미리 할당받는 시퀀스
+    // (MySQL에서는 order_item_seq 테이블로 동작, 기존 데이터와의 정렬은 IdSequenceAligner)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_item_seq", allocationSize = 50)
     @Column(name = "order_item_id")
     private Long orderItemId;
 
@@ -0,0 +1,32 @@
+package org.example.coffee.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 주문 상태와 허용되는 전이
+ * PENDING -> PAID -> (PREPARING) -> SHIPPED -> DELIVERED
+ * 배송 전(PENDING, PAID, PREPARING)까지만 CANCELLED로 갈 수 있다.
+ */
+public enum OrderStatus {
+    PENDING,
+    PAID,
+    PREPARING,
+    SHIPPED,
+    DELIVERED,
+    CANCELLED;
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return allowedNext().contains(next);
+    }
+
+    private Set<OrderStatus> allowedNext() {
+        return switch (this) {
+            case PENDING -> EnumSet.of(PAID, CANCELLED);
+            case PAID -> EnumSet.of(PREPARING, SHIPPED, CANCELLED);
+            case PREPARING -> EnumSet.of(SHIPPED, CANCELLED);
+            case SHIPPED -> EnumSet.of(DELIVERED);
+            case DELIVERED, CANCELLED -> EnumSet.noneOf(OrderStatus.class);
+        };
+    }
+}
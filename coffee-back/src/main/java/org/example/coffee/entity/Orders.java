@@ -7,7 +7,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_created_at", columnList = "created_at"),
+        // 기동 시 PENDING 주문 만료 타이머 재구성
+        @Index(name = "idx_orders_status", columnList = "status, created_at"),
+        // 주문 내역 커서 페이지 (user_id, created_at, order_id)
+        @Index(name = "idx_orders_user_created", columnList = "user_id, created_at, order_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -39,8 +45,9 @@ public class Orders {
     private Integer finalPrice;
 
     @Builder.Default
+    @Enumerated(EnumType.STRING)
     @Column(length = 20)
-    private String status = "PENDING";
+    private OrderStatus status = OrderStatus.PENDING;
 
     @Column(nullable = false, length = 50)
     private String recipient;
@@ -72,4 +79,9 @@ public class Orders {
 
     @Column(name = "delivered_at")
     private LocalDateTime deliveredAt;
+
+    // 재고 차감이 product_variant에 반영되었는지 (인메모리 재고 모드의 지연 반영용)
+    @Builder.Default
+    @Column(name = "stock_synced")
+    private Boolean stockSynced = true;
 }
@@ -3,13 +3,20 @@ package org.example.coffee.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "point_history")
+@Table(name = "point_history", indexes = {
+        // 포인트 내역 커서 페이지
+        @Index(name = "idx_point_history_user_created", columnList = "user_id, created_at, history_id"),
+        // 스냅샷 이후 변동 합계
+        @Index(name = "idx_point_history_user_id", columnList = "user_id, history_id")
+})
+// 포인트 원장: 추가만 하고 수정/삭제하지 않는다 (PointLedger)
+@Immutable
 @Getter
-@Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
@@ -0,0 +1,30 @@
+// 사용자별 포인트 원장 스냅샷 (PointSnapshotter가 주기적으로 갱신)
+package org.example.coffee.entity;
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "point_snapshot")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PointSnapshot {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 스냅샷에 반영된 마지막 point_history
+    @Column(name = "last_history_id", nullable = false)
+    private Long lastHistoryId;
+
+    // last_history_id 시점의 잔액
+    @Column(nullable = false)
+    private Integer balance;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
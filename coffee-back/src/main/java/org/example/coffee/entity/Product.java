@@ -3,8 +3,17 @@ package org.example.coffee.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 @Entity
-@Table(name = "product")
+@Table(name = "product", indexes = {
+        // 필터 + productId 키셋 페이지용
+        @Index(name = "idx_product_continent", columnList = "continent, product_id"),
+        @Index(name = "idx_product_nationality", columnList = "nationality, product_id"),
+        @Index(name = "idx_product_type", columnList = "type, product_id")
+})
+@EntityListeners(ProductEntityListener.class)
 @Getter
 public class Product {
 
@@ -33,4 +42,11 @@ public class Product {
 
     @Column(name = "detail_img", length = 250)
     private String detailImg;
+
+    // 상세 조회 시 한 번에 fetch (ProductRepository.findWithOptionsAndImagesById)
+    @OneToMany(mappedBy = "product")
+    private Set<ProductOption> options = new LinkedHashSet<>();
+
+    @OneToMany(mappedBy = "product")
+    private Set<ProductImage> images = new LinkedHashSet<>();
 }
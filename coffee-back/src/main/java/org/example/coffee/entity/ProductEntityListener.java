@@ -0,0 +1,28 @@
+package org.example.coffee.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.example.coffee.event.ProductChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Product 변경 시 ProductChangedEvent 발행 (커밋 이후 리스너에서 처리)
+@Component
+@RequiredArgsConstructor
+public class ProductEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Product product) {
+        eventPublisher.publishEvent(new ProductChangedEvent(product, false));
+    }
+
+    @PostRemove
+    public void onRemove(Product product) {
+        eventPublisher.publishEvent(new ProductChangedEvent(product, true));
+    }
+}
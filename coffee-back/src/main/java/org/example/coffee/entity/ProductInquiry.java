@@ -7,7 +7,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "product_inquiry")
+@Table(name = "product_inquiry", indexes = {
+        // 내 문의 커서 페이지
+        @Index(name = "idx_inquiry_user_created", columnList = "user_id, created_at, inquiry_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
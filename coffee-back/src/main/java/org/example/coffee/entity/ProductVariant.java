@@ -4,7 +4,14 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "product_variant")
+@Table(name = "product_variant",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_variant",
+            columnNames = {"product_id", "option_id"}
+        )
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,11 @@
+package org.example.coffee.event;
+
+// 공개 조회 응답이 바뀌는 변경 (ETag 버전 갱신용)
+public record CatalogChangedEvent(Section section) {
+
+    public enum Section {
+        PRODUCT,
+        REVIEW,
+        INQUIRY
+    }
+}
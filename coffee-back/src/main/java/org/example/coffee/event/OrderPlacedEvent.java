@@ -0,0 +1,10 @@
+package org.example.coffee.event;
+
+import java.util.List;
+
+// 주문 생성 커밋 후 처리용 이벤트 (판매 랭킹 등)
+public record OrderPlacedEvent(Long orderId, Long userId, List<Line> lines) {
+
+    public record Line(Long productId, Long optionId, int quantity) {
+    }
+}
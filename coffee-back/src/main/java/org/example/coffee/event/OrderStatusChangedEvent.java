@@ -0,0 +1,7 @@
+package org.example.coffee.event;
+
+import org.example.coffee.entity.OrderStatus;
+
+// 주문 상태 변경 (아웃박스 릴레이가 발행, 포인트 적립/환불, 알림 등)
+public record OrderStatusChangedEvent(Long outboxId, Long orderId, Long userId, OrderStatus from, OrderStatus to) {
+}
@@ -0,0 +1,14 @@
+package org.example.coffee.event;
+
+import org.example.coffee.entity.Product;
+
+/**
+ * 상품 행이 추가/수정/삭제되었을 때 발행되는 이벤트
+ * 카탈로그 캐시, 인메모리 인덱스가 이 이벤트로 갱신된다.
+ */
+public record ProductChangedEvent(Product product, boolean removed) {
+
+    public Long productId() {
+        return product.getProductId();
+    }
+}
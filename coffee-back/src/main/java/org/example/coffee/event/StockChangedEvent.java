@@ -0,0 +1,10 @@
+package org.example.coffee.event;
+
+import java.util.List;
+
+// 재고 행(product_variant) 수량 변경, 커밋 후 품절 상태 갱신용
+public record StockChangedEvent(List<Delta> deltas) {
+
+    public record Delta(Long productId, Long optionId, int delta) {
+    }
+}
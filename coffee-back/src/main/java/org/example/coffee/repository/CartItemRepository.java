@@ -1,18 +1,57 @@
 package org.example.coffee.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import org.example.coffee.entity.CartItem;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
 
-    List<CartItem> findByUser_UserId(Long userId);
+    // 상품, 옵션까지 한 번에 조회 (장바구니 화면, 주문 생성 시 가격 계산)
+    @EntityGraph(attributePaths = {"product", "option"})
+    List<CartItem> findWithProductAndOptionByUser_UserId(Long userId);
 
-    Optional<CartItem> findByUser_UserIdAndProduct_ProductIdAndOption_OptionId(
+    // 여러 사용자의 장바구니 라인 (userId, productId, optionId, quantity)
+    @Query("SELECT c.user.userId, c.product.productId, c.option.optionId, c.quantity FROM CartItem c " +
+            "WHERE c.user.userId IN :userIds")
+    List<Object[]> findLinesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @EntityGraph(attributePaths = {"product", "option"})
+    Optional<CartItem> findWithProductAndOptionByUser_UserIdAndProduct_ProductIdAndOption_OptionId(
             Long userId, Long productId, Long optionId);
 
-    void deleteByUser_UserId(Long userId);
+    /**
+     * 담기 (uk_cart 기준 insert-or-increment, 문장 하나)
+     * 옵션이 해당 상품의 것일 때만 insert 되므로 0이면 잘못된 상품/옵션이다.
+     * 동시에 같은 상품을 담아도 유니크 키 충돌 없이 수량이 합쳐진다.
+     * 시각은 애플리케이션 시각을 바인딩한다. (엔티티 저장 시각과 같은 시계)
+     * 합친 수량은 한 라인 최대(CartService.MAX_LINE_QUANTITY)에서 멈춘다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO cart_item (user_id, product_id, option_id, quantity, created_at, updated_at) " +
+            "SELECT :userId, o.product_id, o.option_id, :quantity, :now, :now " +
+            "FROM product_option o WHERE o.option_id = :optionId AND o.product_id = :productId " +
+            "ON DUPLICATE KEY UPDATE quantity = LEAST(quantity + VALUES(quantity), 999), updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    int upsertQuantity(@Param("userId") Long userId, @Param("productId") Long productId,
+                       @Param("optionId") Long optionId, @Param("quantity") int quantity,
+                       @Param("now") LocalDateTime now);
+
+    // 일괄 삭제 (본인 장바구니 항목만)
+    @Modifying
+    @Query("DELETE FROM CartItem c WHERE c.user.userId = :userId AND c.cartItemId IN :cartItemIds")
+    int deleteByUserIdAndCartItemIdIn(@Param("userId") Long userId, @Param("cartItemIds") Collection<Long> cartItemIds);
+
+    // 한 건씩 조회 후 삭제하지 않고 DELETE 한 번
+    @Modifying
+    @Query("DELETE FROM CartItem c WHERE c.user.userId = :userId")
+    int deleteByUser_UserId(@Param("userId") Long userId);
 }
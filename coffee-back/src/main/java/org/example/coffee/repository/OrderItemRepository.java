@@ -1,14 +1,46 @@
 package org.example.coffee.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import org.example.coffee.entity.OrderItem;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
+    @EntityGraph(attributePaths = {"product", "option"})
     List<OrderItem> findByOrder_OrderId(Long orderId);
 
+    // 여러 주문의 상품을 상품, 옵션까지 한 번에 조회 (주문 내역)
+    @Query("SELECT oi FROM OrderItem oi JOIN FETCH oi.product JOIN FETCH oi.option " +
+            "WHERE oi.order.orderId IN :orderIds ORDER BY oi.orderItemId")
+    List<OrderItem> findWithProductAndOptionByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
     List<OrderItem> findByOrder_User_UserId(Long userId);
+
+    // 상품별 일별 판매 수량 (베스트셀러 랭킹 초기화용)
+    @Query("SELECT oi.product.productId, CAST(o.createdAt AS LocalDate), SUM(oi.quantity) " +
+            "FROM OrderItem oi JOIN oi.order o " +
+            "WHERE o.createdAt >= :since AND o.status <> org.example.coffee.entity.OrderStatus.CANCELLED " +
+            "GROUP BY oi.product.productId, CAST(o.createdAt AS LocalDate)")
+    List<Object[]> sumQuantityByProductAndDaySince(@Param("since") LocalDateTime since);
+
+    // 주문 한 건의 상품별 수량과 주문일 (취소 시 판매 랭킹에서 빼기용)
+    @Query("SELECT oi.product.productId, CAST(o.createdAt AS LocalDate), SUM(oi.quantity) " +
+            "FROM OrderItem oi JOIN oi.order o " +
+            "WHERE o.orderId = :orderId " +
+            "GROUP BY oi.product.productId, CAST(o.createdAt AS LocalDate)")
+    List<Object[]> sumQuantityByProductAndDayForOrder(@Param("orderId") Long orderId);
+
+    // DB에 아직 반영되지 않은 재고 차감 수량 (인메모리 재고 모드 복구용)
+    @Query("SELECT oi.product.productId, oi.option.optionId, SUM(oi.quantity) " +
+            "FROM OrderItem oi JOIN oi.order o " +
+            "WHERE o.stockSynced = false " +
+            "GROUP BY oi.product.productId, oi.option.optionId")
+    List<Object[]> sumUnsyncedQuantityByVariant();
 }
@@ -0,0 +1,20 @@
+package org.example.coffee.repository;
+
+import java.util.List;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import org.example.coffee.entity.OrderOutbox;
+
+public interface OrderOutboxRepository extends JpaRepository<OrderOutbox, Long> {
+
+    // 오래된 것부터 한 묶음 (PK 순서, 잠가서 다른 릴레이와 중복 발행 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OrderOutbox o ORDER BY o.outboxId")
+    List<OrderOutbox> findOldest(Limit limit);
+}
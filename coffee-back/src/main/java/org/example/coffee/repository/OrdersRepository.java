@@ -1,14 +1,50 @@
 package org.example.coffee.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import org.example.coffee.entity.OrderStatus;
 import org.example.coffee.entity.Orders;
 
 public interface OrdersRepository extends JpaRepository<Orders, Long> {
 
-    List<Orders> findByUser_UserIdOrderByCreatedAtDesc(Long userId);
+    // 주문 내역 첫 페이지 (idx_orders_user_created)
+    List<Orders> findByUser_UserIdOrderByCreatedAtDescOrderIdDesc(Long userId, Limit limit);
+
+    // 커서 (createdAt, orderId) 이후 페이지 - 깊이와 상관없이 인덱스 범위 스캔
+    @Query("SELECT o FROM Orders o WHERE o.user.userId = :userId " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.orderId < :orderId)) " +
+            "ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<Orders> findPageByUserIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("orderId") Long orderId, Limit limit);
+
+    List<Orders> findByStatus(OrderStatus status);
+
+    // 만료 타이머 재구성용 (idx_orders_status)
+    @Query("SELECT o.orderId, o.createdAt FROM Orders o WHERE o.status = :status")
+    List<Object[]> findIdAndCreatedAtByStatus(@Param("status") OrderStatus status);
+
+    // 상태 전이용 (동시에 결제/취소되어도 한쪽만 반영되도록 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Orders o WHERE o.orderId = :orderId")
+    Optional<Orders> findByIdForUpdate(@Param("orderId") Long orderId);
+
+    @Modifying
+    @Query("UPDATE Orders o SET o.stockSynced = true WHERE o.orderId IN :orderIds")
+    int markStockSynced(@Param("orderIds") Collection<Long> orderIds);
 
-    List<Orders> findByStatus(String status);
+    @Modifying
+    @Query("UPDATE Orders o SET o.stockSynced = true WHERE o.stockSynced = false")
+    int markAllStockSynced();
 }
@@ -1,14 +1,56 @@
 package org.example.coffee.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import org.example.coffee.entity.PointHistory;
 
 public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
 
-    List<PointHistory> findByUser_UserIdOrderByCreatedAtDesc(Long userId);
+    // 포인트 내역 첫 페이지 (idx_point_history_user_created)
+    List<PointHistory> findByUser_UserIdOrderByCreatedAtDescHistoryIdDesc(Long userId, Limit limit);
+
+    // 커서 (createdAt, historyId) 이후 페이지
+    @Query("SELECT h FROM PointHistory h WHERE h.user.userId = :userId " +
+            "AND (h.createdAt < :createdAt OR (h.createdAt = :createdAt AND h.historyId < :historyId)) " +
+            "ORDER BY h.createdAt DESC, h.historyId DESC")
+    List<PointHistory> findPageByUserIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("historyId") Long historyId, Limit limit);
 
     List<PointHistory> findByUser_UserIdAndType(Long userId, String type);
+
+    /**
+     * 원장 한 줄 추가 (PointLedger 전용)
+     * 같은 트랜잭션에서 먼저 잔액을 바꾼 사용자 행에서 변경 후 잔액을 읽어 그대로 기록한다.
+     * created_at 은 DB 시계가 아니라 애플리케이션 시각을 바인딩한다. (엔티티로 쓰는 내역, 커서 조회와 같은 기준)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO point_history (user_id, amount, type, description, order_id, balance, created_at) " +
+            "SELECT u.user_id, :amount, :type, :description, :orderId, u.point, :createdAt " +
+            "FROM user u WHERE u.user_id = :userId", nativeQuery = true)
+    int append(@Param("userId") Long userId, @Param("amount") int amount, @Param("type") String type,
+               @Param("description") String description, @Param("orderId") Long orderId,
+               @Param("createdAt") LocalDateTime createdAt);
+
+    // historyId 이후 추가된 내역 (historyId, userId)
+    @Query("SELECT h.historyId, h.user.userId FROM PointHistory h WHERE h.historyId > :historyId ORDER BY h.historyId")
+    List<Object[]> findIdsAfter(@Param("historyId") Long historyId, Limit limit);
+
+    // 사용자별 스냅샷 이후 변동 합계와 마지막 내역 (userId, sum(amount), max(historyId))
+    @Query("SELECT h.user.userId, SUM(h.amount), MAX(h.historyId) FROM PointHistory h " +
+            "WHERE h.user.userId IN :userIds AND h.historyId > COALESCE(" +
+            "(SELECT s.lastHistoryId FROM PointSnapshot s WHERE s.userId = h.user.userId), 0) " +
+            "GROUP BY h.user.userId")
+    List<Object[]> sumSinceSnapshot(@Param("userIds") Collection<Long> userIds);
+
+    // (historyId, balance)
+    @Query("SELECT h.historyId, h.balance FROM PointHistory h WHERE h.historyId IN :historyIds")
+    List<Object[]> findBalances(@Param("historyIds") Collection<Long> historyIds);
 }
@@ -0,0 +1,13 @@
+package org.example.coffee.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import org.example.coffee.entity.PointSnapshot;
+
+public interface PointSnapshotRepository extends JpaRepository<PointSnapshot, Long> {
+
+    // 기동 후 첫 스냅샷 시작 위치
+    @Query("SELECT COALESCE(MAX(s.lastHistoryId), 0) FROM PointSnapshot s")
+    Long findMaxLastHistoryId();
+}
@@ -1,5 +1,6 @@
 package org.example.coffee.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,4 +10,6 @@ import org.example.coffee.entity.ProductImage;
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
 
     List<ProductImage> findByProduct_ProductIdOrderBySortOrderAsc(Long productId);
+
+    List<ProductImage> findByProduct_ProductIdInOrderBySortOrderAsc(Collection<Long> productIds);
 }
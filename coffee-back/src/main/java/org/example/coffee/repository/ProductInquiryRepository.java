@@ -1,12 +1,14 @@
 package org.example.coffee.repository;
 
 import org.example.coffee.entity.ProductInquiry;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ProductInquiryRepository extends JpaRepository<ProductInquiry, Long> {
@@ -18,9 +20,18 @@ public interface ProductInquiryRepository extends JpaRepository<ProductInquiry,
     // 상품별 문의 개수
     Long countByProductProductId(Long productId);
 
-    // 내 문의 목록
-    @Query("SELECT i FROM ProductInquiry i JOIN FETCH i.product WHERE i.user.userId = :userId ORDER BY i.createdAt DESC")
-    List<ProductInquiry> findByUserIdWithProduct(@Param("userId") Long userId);
+    // 내 문의 목록 첫 페이지 (idx_inquiry_user_created)
+    @Query("SELECT i FROM ProductInquiry i JOIN FETCH i.product JOIN FETCH i.user WHERE i.user.userId = :userId " +
+            "ORDER BY i.createdAt DESC, i.inquiryId DESC")
+    List<ProductInquiry> findPageByUserIdWithProduct(@Param("userId") Long userId, Limit limit);
+
+    // 내 문의 목록 커서 (createdAt, inquiryId) 이후 페이지
+    @Query("SELECT i FROM ProductInquiry i JOIN FETCH i.product JOIN FETCH i.user WHERE i.user.userId = :userId " +
+            "AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.inquiryId < :inquiryId)) " +
+            "ORDER BY i.createdAt DESC, i.inquiryId DESC")
+    List<ProductInquiry> findPageByUserIdWithProductAfter(@Param("userId") Long userId,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("inquiryId") Long inquiryId, Limit limit);
 
     // 상품별 문의 목록 (페이징)
     Page<ProductInquiry> findByProductProductIdOrderByCreatedAtDesc(Long productId, Pageable pageable);
@@ -1,5 +1,6 @@
 package org.example.coffee.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,4 +10,6 @@ import org.example.coffee.entity.ProductOption;
 public interface ProductOptionRepository extends JpaRepository<ProductOption, Long> {
 
     List<ProductOption> findByProduct_ProductId(Long productId);
+
+    List<ProductOption> findByProduct_ProductIdIn(Collection<Long> productIds);
 }
@@ -1,8 +1,13 @@
 package org.example.coffee.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import org.example.coffee.entity.Product;
 
@@ -11,15 +16,39 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // 최근 입고
     List<Product> findTop10ByOrderByProductIdDesc();
 
-    // 베스트 셀렉션
+    // 베스트 셀렉션 보충용 (판매 이력이 부족할 때)
     List<Product> findTop10ByOrderByProductIdAsc();
 
-    // 대륙별 필터링
-    List<Product> findByContinent(String continent);
+    // 대륙별 필터링 (productId 키셋 페이지)
+    List<Product> findByContinentAndProductIdGreaterThanOrderByProductIdAsc(
+            String continent, Long productId, Limit limit);
 
-    // 원산지(나라)별 필터링
-    List<Product> findByNationality(String nationality);
+    // 원산지(나라)별 필터링 (productId 키셋 페이지)
+    List<Product> findByNationalityAndProductIdGreaterThanOrderByProductIdAsc(
+            String nationality, Long productId, Limit limit);
 
-    // 가공방식별 필터링
-    List<Product> findByType(String type);
+    // 가공방식별 필터링 (productId 키셋 페이지)
+    List<Product> findByTypeAndProductIdGreaterThanOrderByProductIdAsc(
+            String type, Long productId, Limit limit);
+
+    // 상품 + 옵션 + 이미지 (한 번의 조회)
+    @EntityGraph(attributePaths = {"options", "images"})
+    @Query("SELECT p FROM Product p WHERE p.productId = :productId")
+    Optional<Product> findWithOptionsAndImagesById(@Param("productId") Long productId);
+
+    // 상품 페이지 통계 (리뷰 평점/개수, 문의 개수)
+    @Query("SELECT " +
+            "(SELECT AVG(r.rating) FROM Review r WHERE r.product.productId = :productId) AS averageRating, " +
+            "(SELECT COUNT(r) FROM Review r WHERE r.product.productId = :productId) AS reviewCount, " +
+            "(SELECT COUNT(i) FROM ProductInquiry i WHERE i.product.productId = :productId) AS inquiryCount " +
+            "FROM Product p WHERE p.productId = :productId")
+    Optional<PageStats> findPageStats(@Param("productId") Long productId);
+
+    interface PageStats {
+        Double getAverageRating();
+
+        Long getReviewCount();
+
+        Long getInquiryCount();
+    }
 }
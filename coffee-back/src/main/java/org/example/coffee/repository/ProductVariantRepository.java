@@ -0,0 +1,37 @@
+package org.example.coffee.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.example.coffee.entity.ProductVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProductVariantRepository extends JpaRepository<ProductVariant, Long> {
+
+    // 재고 관리 대상 (상품, 옵션) 목록
+    @Query("SELECT v.product.productId, v.option.optionId FROM ProductVariant v " +
+            "WHERE v.product.productId IN :productIds")
+    List<Object[]> findKeysByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // (상품, 옵션, 재고) 목록
+    @Query("SELECT v.product.productId, v.option.optionId, v.stock FROM ProductVariant v " +
+            "WHERE v.product.productId IN :productIds")
+    List<Object[]> findStockByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    Optional<ProductVariant> findByProduct_ProductIdAndOption_OptionId(Long productId, Long optionId);
+
+    // 조건 없이 증감 (취소 시 반환, 인메모리 모드의 지연 반영)
+    @Modifying
+    @Query("UPDATE ProductVariant v SET v.stock = v.stock + :delta " +
+            "WHERE v.product.productId = :productId AND v.option.optionId = :optionId")
+    int addStock(@Param("productId") Long productId,
+                 @Param("optionId") Long optionId,
+                 @Param("delta") int delta);
+
+    @Query("SELECT v.product.productId, v.option.optionId, v.stock FROM ProductVariant v")
+    List<Object[]> findAllStock();
+}
@@ -1,7 +1,9 @@
 package org.example.coffee.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,7 +14,17 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     List<Review> findByProduct_ProductIdOrderByCreatedAtDesc(Long productId);
 
-    List<Review> findByUser_UserIdOrderByCreatedAtDesc(Long userId);
+    // 내 리뷰 첫 페이지 (idx_review_user_created)
+    @Query("SELECT r FROM Review r JOIN FETCH r.product JOIN FETCH r.user WHERE r.user.userId = :userId " +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    // 커서 (createdAt, reviewId) 이후 페이지
+    @Query("SELECT r FROM Review r JOIN FETCH r.product JOIN FETCH r.user WHERE r.user.userId = :userId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewId < :reviewId)) " +
+            "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findPageByUserIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("reviewId") Long reviewId, Limit limit);
 
     @Query("SELECT AVG(r.rating) FROM Review r WHERE r.product.productId = :productId")
     Double findAverageRatingByProductId(@Param("productId") Long productId);
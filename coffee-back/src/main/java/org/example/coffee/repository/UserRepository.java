@@ -1,8 +1,14 @@
 package org.example.coffee.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import org.example.coffee.entity.User;
 
@@ -13,4 +19,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
+
+    // 잔액이 충분할 때만 차감 (UPDATE 한 번), 수정 시각은 애플리케이션 시각
+    @Modifying
+    @Query("UPDATE User u SET u.point = u.point - :amount, u.updatedAt = :now " +
+            "WHERE u.userId = :userId AND u.point >= :amount")
+    int usePoint(@Param("userId") Long userId, @Param("amount") int amount, @Param("now") LocalDateTime now);
+
+    @Query("SELECT u.point FROM User u WHERE u.userId = :userId")
+    Integer findPointByUserId(@Param("userId") Long userId);
+
+    // (userId, point)
+    @Query("SELECT u.userId, u.point FROM User u WHERE u.userId IN :userIds")
+    List<Object[]> findPointsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 적립/환불
+    @Modifying
+    @Query("UPDATE User u SET u.point = u.point + :amount, u.updatedAt = :now WHERE u.userId = :userId")
+    int addPoint(@Param("userId") Long userId, @Param("amount") int amount, @Param("now") LocalDateTime now);
 }
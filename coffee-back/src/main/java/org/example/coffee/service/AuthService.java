@@ -3,6 +3,7 @@ package org.example.coffee.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.coffee.config.JwtProvider;
 import org.example.coffee.dto.LoginResponse;
 import org.example.coffee.dto.SocialLoginRequest;
@@ -13,11 +14,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
+    private final CartService cartService;
     private final JwtProvider jwtProvider;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -34,6 +37,13 @@ public class AuthService {
         User user = userRepository.findByProviderAndProviderId(provider, userInfo.id)
                 .orElseGet(() -> createUser(provider, userInfo));
 
+        // 비회원 장바구니를 배치 한 번으로 합침 (실패해도 로그인은 진행)
+        try {
+            cartService.mergeGuestCart(user.getUserId(), request.getGuestCart());
+        } catch (RuntimeException e) {
+            log.warn("guest cart merge failed: userId={}", user.getUserId(), e);
+        }
+
         // JWT 토큰 생성
         String jwtAccessToken = jwtProvider.createAccessToken(user.getUserId());
         String jwtRefreshToken = jwtProvider.createRefreshToken(user.getUserId());
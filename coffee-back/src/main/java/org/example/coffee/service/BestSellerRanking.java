@@ -0,0 +1,210 @@
+package org.example.coffee.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import org.example.coffee.config.CacheConfig;
+import org.example.coffee.event.CatalogChangedEvent;
+import org.example.coffee.entity.OrderStatus;
+import org.example.coffee.event.OrderPlacedEvent;
+import org.example.coffee.event.OrderStatusChangedEvent;
+import org.example.coffee.repository.OrderItemRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 판매량 기반 베스트셀러 랭킹
+ * 상품별로 최근 30일의 일별 판매 수량을 링 버퍼에 누적하고,
+ * 주기적으로 7일/30일 상위 목록을 다시 계산해 둔다. 조회는 계산된 목록을 그대로 반환한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BestSellerRanking {
+
+    public static final int SHORT_WINDOW_DAYS = 7;
+    public static final int LONG_WINDOW_DAYS = 30;
+    public static final int TOP_SIZE = 10;
+
+    private static final int RING_DAYS = LONG_WINDOW_DAYS;
+
+    private final OrderItemRepository orderItemRepository;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 상품별 일별 판매 수량 (index = epochDay % RING_DAYS)
+    private final Map<Long, AtomicIntegerArray> dailyQuantity = new ConcurrentHashMap<>();
+    // 링 슬롯이 현재 담고 있는 날짜(epochDay)
+    private final AtomicLongArray slotDay = new AtomicLongArray(RING_DAYS);
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile List<Long> shortTop = List.of();
+    private volatile List<Long> longTop = List.of();
+    private volatile long computedDay = -1;
+
+    // 기동 시 최근 30일 주문 수량을 한 번 집계해 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime since = today.minusDays(RING_DAYS - 1).atStartOfDay();
+
+        List<Object[]> rows = orderItemRepository.sumQuantityByProductAndDaySince(since);
+        for (Object[] row : rows) {
+            Long productId = (Long) row[0];
+            LocalDate day = (LocalDate) row[1];
+            int quantity = ((Number) row[2]).intValue();
+            add(productId, day.toEpochDay(), quantity);
+        }
+        refresh();
+        log.info("best seller ranking warmed up: rows={}", rows.size());
+    }
+
+    // 주문 커밋 후 수량 누적 (O(주문 라인 수))
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        long today = LocalDate.now().toEpochDay();
+        for (OrderPlacedEvent.Line line : event.lines()) {
+            add(line.productId(), today, line.quantity());
+        }
+    }
+
+    // 취소된 주문은 주문한 날의 판매 수량에서 뺀다 (아웃박스 커밋 후)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.to() != OrderStatus.CANCELLED) {
+            return;
+        }
+        for (Object[] row : orderItemRepository.sumQuantityByProductAndDayForOrder(event.orderId())) {
+            add((Long) row[0], ((LocalDate) row[1]).toEpochDay(), -((Number) row[2]).intValue());
+        }
+    }
+
+    public List<Long> topProductIds(int windowDays) {
+        return windowDays <= SHORT_WINDOW_DAYS ? shortTop : longTop;
+    }
+
+    // 상품별 기간 내 판매 수량 (자동완성 가중치 등)
+    public Map<Long, Long> quantities(int windowDays) {
+        long today = LocalDate.now().toEpochDay();
+        Map<Long, Long> result = new HashMap<>();
+        dailyQuantity.forEach((productId, counts) -> {
+            long total = windowTotal(counts, today, windowDays);
+            if (total > 0) {
+                result.put(productId, total);
+            }
+        });
+        return result;
+    }
+
+    // 랭킹이 바뀔 때마다 증가 (응답 캐시 버전 비교용)
+    public long version() {
+        return version.get();
+    }
+
+    @Scheduled(fixedDelayString = "${app.ranking.refresh-interval-ms}")
+    public void refreshIfNeeded() {
+        if (dirty.get() || computedDay != LocalDate.now().toEpochDay()) {
+            refresh();
+        }
+    }
+
+    void add(Long productId, long epochDay, int quantity) {
+        long today = LocalDate.now().toEpochDay();
+        if (epochDay <= today - RING_DAYS || epochDay > today) {
+            return;
+        }
+        int slot = (int) (epochDay % RING_DAYS);
+        if (slotDay.get(slot) != epochDay) {
+            roll(slot, epochDay);
+        }
+        dailyQuantity.computeIfAbsent(productId, id -> new AtomicIntegerArray(RING_DAYS))
+                .addAndGet(slot, quantity);
+        dirty.set(true);
+    }
+
+    // 슬롯이 새 날짜로 넘어가면 예전 날짜 수량을 비운다
+    private synchronized void roll(int slot, long epochDay) {
+        if (slotDay.get(slot) >= epochDay) {
+            return;
+        }
+        for (AtomicIntegerArray counts : dailyQuantity.values()) {
+            counts.set(slot, 0);
+        }
+        slotDay.set(slot, epochDay);
+    }
+
+    synchronized void refresh() {
+        dirty.set(false);
+        long today = LocalDate.now().toEpochDay();
+
+        List<Long> newShortTop = computeTop(today, SHORT_WINDOW_DAYS);
+        List<Long> newLongTop = computeTop(today, LONG_WINDOW_DAYS);
+        computedDay = today;
+
+        if (!newShortTop.equals(shortTop) || !newLongTop.equals(longTop)) {
+            shortTop = newShortTop;
+            longTop = newLongTop;
+            version.incrementAndGet();
+
+            Cache cache = cacheManager.getCache(CacheConfig.BEST_PRODUCTS);
+            if (cache != null) {
+                cache.clear();
+            }
+            eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Section.PRODUCT));
+        }
+    }
+
+    private List<Long> computeTop(long today, int windowDays) {
+        PriorityQueue<long[]> heap = new PriorityQueue<>(
+                Comparator.<long[]>comparingLong(e -> e[1]).thenComparingLong(e -> -e[0]));
+
+        dailyQuantity.forEach((productId, counts) -> {
+            long total = windowTotal(counts, today, windowDays);
+            if (total > 0) {
+                heap.offer(new long[]{productId, total});
+                if (heap.size() > TOP_SIZE) {
+                    heap.poll();
+                }
+            }
+        });
+
+        List<Long> top = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            top.add(0, heap.poll()[0]);
+        }
+        return List.copyOf(top);
+    }
+
+    private long windowTotal(AtomicIntegerArray counts, long today, int windowDays) {
+        long total = 0;
+        for (int slot = 0; slot < RING_DAYS; slot++) {
+            long day = slotDay.get(slot);
+            if (day > today - windowDays && day <= today) {
+                total += counts.get(slot);
+            }
+        }
+        return total;
+    }
+}
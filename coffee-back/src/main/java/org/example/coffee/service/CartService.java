@@ -1,70 +1,206 @@
 package org.example.coffee.service;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import org.example.coffee.config.JdbcTimestamps;
 import org.example.coffee.dto.CartItemResponse;
+import org.example.coffee.dto.CartQuantityRequest;
 import org.example.coffee.dto.CartRequest;
 import org.example.coffee.entity.CartItem;
 import org.example.coffee.entity.Product;
 import org.example.coffee.entity.ProductOption;
-import org.example.coffee.entity.User;
 import org.example.coffee.repository.CartItemRepository;
-import org.example.coffee.repository.ProductRepository;
-import org.example.coffee.repository.ProductOptionRepository;
-import org.example.coffee.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CartService {
 
+    // 일괄 요청 한 번에 처리하는 최대 라인 수
+    public static final int MAX_BULK_LINES = 100;
+    // 한 라인(상품/옵션)에 한 번에 담을 수 있는 최대 수량 (합산 시 int 범위를 넘지 않도록)
+    public static final int MAX_LINE_QUANTITY = 999;
+
+    // CartItemRepository.upsertQuantity 와 같은 문장 (라인 전체를 JDBC 배치 한 번으로)
+    // 이미 담긴 수량과 합쳐 최대를 넘으면 최대까지만 담는다
+    private static final String UPSERT_SQL =
+            "INSERT INTO cart_item (user_id, product_id, option_id, quantity, created_at, updated_at) " +
+            "SELECT ?, o.product_id, o.option_id, ?, ?, ? " +
+            "FROM product_option o WHERE o.option_id = ? AND o.product_id = ? " +
+            "ON DUPLICATE KEY UPDATE quantity = LEAST(quantity + VALUES(quantity), " + MAX_LINE_QUANTITY + "), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String UPDATE_QUANTITY_SQL =
+            "UPDATE cart_item SET quantity = ?, updated_at = ? WHERE cart_item_id = ? AND user_id = ?";
+
+    // 동시에 같은 장바구니를 일괄 변경할 때 교착을 피하도록 항상 같은 순서로 갱신
+    private static final Comparator<CartRequest> LOCK_ORDER = Comparator
+            .comparing(CartRequest::getProductId)
+            .thenComparing(CartRequest::getOptionId);
+
     private final CartItemRepository cartItemRepository;
-    private final ProductRepository productRepository;
-    private final ProductOptionRepository productOptionRepository;
-    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTimestamps jdbcTimestamps;
 
+    // 상품/옵션을 fetch join 으로 함께 읽어 담긴 개수와 상관없이 쿼리 한 번
+    @Transactional(readOnly = true)
     public List<CartItemResponse> getCartItems(Long userId) {
-        List<CartItem> items = cartItemRepository.findByUser_UserId(userId);
+        List<CartItem> items = cartItemRepository.findWithProductAndOptionByUser_UserId(userId);
 
         return items.stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
+    // 담기: upsert 한 번 + 상품/옵션을 함께 읽는 조회 한 번
     @Transactional
     public CartItemResponse addToCart(Long userId, CartRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자가 존재하지 않습니다."));
+        checkQuantity(request.getQuantity());
 
-        Product product = productRepository.findById(request.getProductId())
-                .orElseThrow(() -> new RuntimeException("상품이 존재하지 않습니다."));
-
-        ProductOption option = productOptionRepository.findById(request.getOptionId())
-                .orElseThrow(() -> new RuntimeException("옵션이 존재하지 않습니다."));
+        int inserted = cartItemRepository.upsertQuantity(
+                userId, request.getProductId(), request.getOptionId(), request.getQuantity(), LocalDateTime.now());
+        if (inserted == 0) {
+            throw new RuntimeException("상품 또는 옵션이 존재하지 않습니다.");
+        }
 
         CartItem cartItem = cartItemRepository
-                .findByUser_UserIdAndProduct_ProductIdAndOption_OptionId(
+                .findWithProductAndOptionByUser_UserIdAndProduct_ProductIdAndOption_OptionId(
                         userId, request.getProductId(), request.getOptionId())
-                .orElse(null);
+                .orElseThrow(() -> new RuntimeException("장바구니 항목이 존재하지 않습니다."));
+        return toResponse(cartItem);
+    }
 
-        if (cartItem != null) {
-            cartItem.addQuantity(request.getQuantity());
-        } else {
-            cartItem = CartItem.builder()
-                    .user(user)
-                    .product(product)
-                    .option(option)
-                    .quantity(request.getQuantity())
-                    .build();
+    /**
+     * 여러 상품 한 번에 담기 (트랜잭션 하나, upsert 배치 하나)
+     * 같은 상품/옵션이 여러 번 오면 수량을 합쳐 한 라인으로 보낸다.
+     * 없는 상품/옵션이 하나라도 있으면 전체를 롤백한다.
+     */
+    @Transactional
+    public List<CartItemResponse> addAll(Long userId, List<CartRequest> requests) {
+        checkSize(requests);
+        for (CartRequest request : requests) {
+            checkQuantity(request.getQuantity());
+        }
+        List<CartRequest> lines = mergeLines(requests);
+        for (CartRequest line : lines) {
+            checkQuantity(line.getQuantity());
         }
 
-        cartItemRepository.save(cartItem);
-        return toResponse(cartItem);
+        int[] inserted = upsert(userId, lines);
+        for (int i = 0; i < lines.size(); i++) {
+            if (inserted[i] == 0) {
+                throw new RuntimeException("상품 또는 옵션이 존재하지 않습니다. (상품 " + lines.get(i).getProductId()
+                        + ", 옵션 " + lines.get(i).getOptionId() + ")");
+            }
+        }
+        return getCartItems(userId);
+    }
+
+    /**
+     * 로그인 시 비회원 장바구니 합치기
+     * addAll 과 같은 배치지만 그새 사라진 상품/옵션이나 잘못된 수량은 배치 전에 건너뛰고, 합친 수량은 최대까지만 담는다.
+     * 로그인 트랜잭션에 참여하므로 예외가 나도 그 트랜잭션을 롤백 전용으로 만들지 않는다. (로그인 자체는 실패시키지 않음)
+     */
+    @Transactional(noRollbackFor = RuntimeException.class)
+    public int mergeGuestCart(Long userId, List<CartRequest> guestCart) {
+        if (guestCart == null || guestCart.isEmpty()) {
+            return 0;
+        }
+        List<CartRequest> valid = guestCart.stream()
+                .filter(line -> line != null && line.getProductId() != null && line.getOptionId() != null)
+                .filter(line -> line.getQuantity() > 0 && line.getQuantity() <= MAX_LINE_QUANTITY)
+                .limit(MAX_BULK_LINES)
+                .toList();
+        if (valid.isEmpty()) {
+            return 0;
+        }
+
+        // 합친 수량이 최대를 넘으면 최대까지만 담는다
+        List<CartRequest> lines = mergeLines(valid);
+        lines.forEach(line -> line.setQuantity(Math.min(line.getQuantity(), MAX_LINE_QUANTITY)));
+
+        int merged = 0;
+        for (int count : upsert(userId, lines)) {
+            if (count != 0) {
+                merged++;
+            }
+        }
+        log.info("guest cart merged: userId={}, requested={}, merged={}", userId, guestCart.size(), merged);
+        return merged;
+    }
+
+    /**
+     * 수량 일괄 변경 (0 이하는 삭제)
+     * 본인 장바구니 항목만 바뀌고, UPDATE 배치 하나와 DELETE 하나로 끝난다.
+     */
+    @Transactional
+    public List<CartItemResponse> updateQuantities(Long userId, List<CartQuantityRequest> requests) {
+        checkSize(requests);
+        List<CartQuantityRequest> updates = new ArrayList<>();
+        List<Long> removals = new ArrayList<>();
+        for (CartQuantityRequest request : requests) {
+            if (request.getCartItemId() == null) {
+                throw new RuntimeException("장바구니 항목이 존재하지 않습니다.");
+            }
+            if (request.getQuantity() <= 0) {
+                removals.add(request.getCartItemId());
+            } else {
+                checkQuantity(request.getQuantity());
+                updates.add(request);
+            }
+        }
+        updates.sort(Comparator.comparing(CartQuantityRequest::getCartItemId));
+
+        if (!updates.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.batchUpdate(UPDATE_QUANTITY_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    CartQuantityRequest update = updates.get(i);
+                    ps.setInt(1, update.getQuantity());
+                    jdbcTimestamps.set(ps, 2, now);
+                    ps.setLong(3, update.getCartItemId());
+                    ps.setLong(4, userId);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return updates.size();
+                }
+            });
+        }
+        if (!removals.isEmpty()) {
+            cartItemRepository.deleteByUserIdAndCartItemIdIn(userId, removals);
+        }
+        return getCartItems(userId);
+    }
+
+    // 여러 항목 한 번에 삭제 (DELETE 한 번)
+    @Transactional
+    public void removeAll(Long userId, List<Long> cartItemIds) {
+        if (cartItemIds == null || cartItemIds.isEmpty()) {
+            return;
+        }
+        if (cartItemIds.size() > MAX_BULK_LINES) {
+            throw new RuntimeException("한 번에 " + MAX_BULK_LINES + "개까지 처리할 수 있습니다.");
+        }
+        cartItemRepository.deleteByUserIdAndCartItemIdIn(userId, cartItemIds);
     }
 
     @Transactional
@@ -75,6 +211,7 @@ public class CartService {
         if (quantity <= 0) {
             cartItemRepository.delete(cartItem);
         } else {
+            checkQuantity(quantity);
             cartItem.setQuantity(quantity);
             cartItemRepository.save(cartItem);
         }
@@ -90,6 +227,72 @@ public class CartService {
         cartItemRepository.deleteByUser_UserId(userId);
     }
 
+    private int[] upsert(Long userId, List<CartRequest> lines) {
+        if (lines.isEmpty()) {
+            return new int[0];
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                CartRequest line = lines.get(i);
+                ps.setLong(1, userId);
+                ps.setInt(2, line.getQuantity());
+                jdbcTimestamps.set(ps, 3, now);
+                jdbcTimestamps.set(ps, 4, now);
+                ps.setLong(5, line.getOptionId());
+                ps.setLong(6, line.getProductId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return lines.size();
+            }
+        });
+    }
+
+    // 같은 상품/옵션 라인은 수량을 합치고 잠금 순서대로 정렬
+    // 각 라인을 MAX_LINE_QUANTITY 이하로 거른 뒤 호출하므로 합계는 MAX_BULK_LINES * MAX_LINE_QUANTITY 를 넘지 않는다
+    private static List<CartRequest> mergeLines(List<CartRequest> requests) {
+        Map<List<Long>, CartRequest> merged = new LinkedHashMap<>();
+        for (CartRequest request : requests) {
+            if (request.getProductId() == null || request.getOptionId() == null) {
+                throw new RuntimeException("상품 또는 옵션이 존재하지 않습니다.");
+            }
+            merged.merge(List.of(request.getProductId(), request.getOptionId()), copy(request), (a, b) -> {
+                a.setQuantity(Math.addExact(a.getQuantity(), b.getQuantity()));
+                return a;
+            });
+        }
+        return merged.values().stream().sorted(LOCK_ORDER).toList();
+    }
+
+    private static CartRequest copy(CartRequest request) {
+        CartRequest line = new CartRequest();
+        line.setProductId(request.getProductId());
+        line.setOptionId(request.getOptionId());
+        line.setQuantity(request.getQuantity());
+        return line;
+    }
+
+    private static void checkQuantity(int quantity) {
+        if (quantity <= 0) {
+            throw new RuntimeException("수량은 1개 이상이어야 합니다.");
+        }
+        if (quantity > MAX_LINE_QUANTITY) {
+            throw new RuntimeException("한 상품은 " + MAX_LINE_QUANTITY + "개까지 담을 수 있습니다.");
+        }
+    }
+
+    private static void checkSize(List<?> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new RuntimeException("변경할 장바구니 항목이 없습니다.");
+        }
+        if (requests.size() > MAX_BULK_LINES) {
+            throw new RuntimeException("한 번에 " + MAX_BULK_LINES + "개까지 처리할 수 있습니다.");
+        }
+    }
+
     private CartItemResponse toResponse(CartItem item) {
         Product product = item.getProduct();
         ProductOption option = item.getOption();
@@ -0,0 +1,56 @@
+package org.example.coffee.service;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import org.example.coffee.config.CacheConfig;
+import org.example.coffee.event.ProductChangedEvent;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    // 상품 변경이 커밋되면 카탈로그 캐시 전체 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        clearAll();
+    }
+
+    public void clearAll() {
+        for (String name : CacheConfig.CATALOG_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    // 캐시별 hit/miss/eviction 통계 로깅
+    @Scheduled(fixedDelayString = "${app.cache.catalog.stats-log-interval-ms}")
+    public void logStats() {
+        for (String name : CacheConfig.CATALOG_CACHES) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                CacheStats stats = cache.getNativeCache().stats();
+                log.info("catalog cache [{}] size={} hit={} miss={} eviction={} hitRate={}",
+                        name,
+                        cache.getNativeCache().estimatedSize(),
+                        stats.hitCount(),
+                        stats.missCount(),
+                        stats.evictionCount(),
+                        String.format("%.3f", stats.hitRate()));
+            }
+        }
+    }
+}
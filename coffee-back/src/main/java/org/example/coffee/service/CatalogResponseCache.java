@@ -0,0 +1,75 @@
+package org.example.coffee.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import org.example.coffee.event.CatalogChangedEvent.Section;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 자주 호출되는 카탈로그 응답을 직렬화된 UTF-8 JSON 바이트(+ gzip)로 보관한다.
+ * 상품 버전(CatalogVersion)이 바뀌었거나 TTL이 지난 경우에만 다시 만든다.
+ */
+@Component
+public class CatalogResponseCache {
+
+    private final CatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+
+    private final Map<String, Body> bodies = new ConcurrentHashMap<>();
+
+    public CatalogResponseCache(CatalogVersion catalogVersion,
+                                ObjectMapper objectMapper,
+                                @Value("${app.cache.catalog.ttl-seconds}") long ttlSeconds) {
+        this.catalogVersion = catalogVersion;
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public Body get(String key, Supplier<?> loader) {
+        long version = catalogVersion.version(Section.PRODUCT);
+        Body body = bodies.get(key);
+        if (body != null && body.version() == version
+                && System.currentTimeMillis() - body.createdAt() < ttlMillis) {
+            return body;
+        }
+
+        // 로딩 전에 읽은 버전으로 저장 -> 로딩 중 변경이 생기면 다음 요청에서 다시 만든다
+        Body fresh = serialize(version, loader.get());
+        bodies.put(key, fresh);
+        return fresh;
+    }
+
+    private Body serialize(long version, Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            return new Body(version, System.currentTimeMillis(), json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카탈로그 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public record Body(long version, long createdAt, byte[] json, byte[] gzip) {
+    }
+}
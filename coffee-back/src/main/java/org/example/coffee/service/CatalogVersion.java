@@ -0,0 +1,59 @@
+package org.example.coffee.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import org.example.coffee.event.CatalogChangedEvent;
+import org.example.coffee.event.CatalogChangedEvent.Section;
+import org.example.coffee.event.ProductChangedEvent;
+
+/**
+ * 공개 조회 API의 버전 카운터 (영역별)
+ * 변경이 커밋될 때마다 증가하며, ETag / Last-Modified 값으로 쓰인다.
+ * 재기동 시 이전 ETag와 겹치지 않도록 기동 시각에서 시작한다.
+ */
+@Component
+public class CatalogVersion {
+
+    private final Map<Section, AtomicLong> versions = new EnumMap<>(Section.class);
+    private final Map<Section, Long> lastModified = new EnumMap<>(Section.class);
+
+    public CatalogVersion() {
+        long now = System.currentTimeMillis();
+        for (Section section : Section.values()) {
+            versions.put(section, new AtomicLong(now));
+            lastModified.put(section, now);
+        }
+    }
+
+    public long version(Section section) {
+        return versions.get(section).get();
+    }
+
+    public long lastModified(Section section) {
+        synchronized (lastModified) {
+            return lastModified.get(section);
+        }
+    }
+
+    public void bump(Section section) {
+        versions.get(section).incrementAndGet();
+        synchronized (lastModified) {
+            lastModified.put(section, System.currentTimeMillis());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        bump(Section.PRODUCT);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        bump(event.section());
+    }
+}
@@ -0,0 +1,284 @@
+package org.example.coffee.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import org.example.coffee.dto.CheckoutTicketResponse;
+import org.example.coffee.dto.OrderRequest;
+import org.example.coffee.dto.OrderResponse;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 주문 접수 (app.checkout.mode=async)
+ * 요청 스레드는 주문을 고정 크기 큐에 넣고 티켓만 돌려준다. 고정된 수의 워커가 큐를 비우면서
+ * 여러 사용자의 주문을 한 트랜잭션으로 묶어 처리하므로, 몰리는 시점에도 DB 동시 접근 수는 워커 수로 고정된다.
+ * 같은 사용자의 주문은 장바구니를 공유하므로 한 트랜잭션에 하나만 넣는다.
+ * 묶기 전에 빈 장바구니, 포인트/재고 부족을 미리 확인해서 실패할 주문은 따로 처리하고 (그 주문만 실패),
+ * 묶음의 재고는 모든 주문 라인을 합쳐 같은 순서로 한 번에 차감한다. (OrderService.createOrders)
+ * 확인 이후 상황이 바뀌어 묶음이 실패하면 전체를 롤백하고 주문마다 따로 다시 처리한다.
+ * 큐와 티켓은 메모리에만 있으므로 종료 시 처리되지 않은 주문은 사라진다. (재주문 필요)
+ */
+@Slf4j
+@Component
+public class CheckoutQueue {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private final OrderService orderService;
+    private final boolean enabled;
+    private final int workerCount;
+    private final int batchSize;
+    private final BlockingQueue<Ticket> queue;
+    private final Cache<String, Ticket> tickets;
+    // (사용자, Idempotency-Key) -> 티켓 ID
+    private final Cache<String, String> ticketsByKey;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public CheckoutQueue(OrderService orderService,
+                         @Value("${app.checkout.mode}") String mode,
+                         @Value("${app.checkout.queue-capacity}") int queueCapacity,
+                         @Value("${app.checkout.workers}") int workerCount,
+                         @Value("${app.checkout.batch-size}") int batchSize,
+                         @Value("${app.checkout.ticket-ttl-minutes}") long ticketTtlMinutes) {
+        this.orderService = orderService;
+        this.enabled = "async".equalsIgnoreCase(mode);
+        this.workerCount = workerCount;
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.tickets = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ticketTtlMinutes))
+                .build();
+        this.ticketsByKey = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ticketTtlMinutes))
+                .build();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::run, "checkout-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("checkout queue started: workers={}, batchSize={}", workerCount, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        if (!queue.isEmpty()) {
+            log.warn("checkout queue stopped with unprocessed orders: {}", queue.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int queued() {
+        return queue.size();
+    }
+
+    /**
+     * 주문을 큐에 넣고 티켓을 돌려준다. 큐가 가득 차면 바로 거절한다.
+     * 같은 Idempotency-Key로 다시 접수하면 처음 받은 티켓을 그대로 돌려주고, 요청 내용이 다르면 거절한다. (동기 경로와 동일)
+     * 키에 묶인 티켓이 만료되었으면 새 티켓으로 바꾸는데, 동시에 들어온 재시도가 둘 다 큐에 넣지 않도록 한 번에 확인하고 바꾼다.
+     */
+    public CheckoutTicketResponse submit(Long userId, String idempotencyKey, OrderRequest request) {
+        if (idempotencyKey != null && idempotencyKey.length() > OrderIdempotencyService.MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key가 너무 깁니다.");
+        }
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), userId, request);
+        tickets.put(ticket.id, ticket);
+
+        String scopedKey = idempotencyKey != null && !idempotencyKey.isBlank() ? userId + ":" + idempotencyKey : null;
+        if (scopedKey != null) {
+            Ticket[] existing = new Ticket[1];
+            ticketsByKey.asMap().compute(scopedKey, (key, currentId) -> {
+                existing[0] = currentId != null ? tickets.getIfPresent(currentId) : null;
+                return existing[0] != null ? currentId : ticket.id;
+            });
+            if (existing[0] != null) {
+                tickets.invalidate(ticket.id);
+                if (!existing[0].fields.equals(ticket.fields)) {
+                    throw new IllegalArgumentException("같은 Idempotency-Key로 다른 주문을 요청할 수 없습니다.");
+                }
+                return existing[0].toResponse();
+            }
+        }
+
+        if (!queue.offer(ticket)) {
+            tickets.invalidate(ticket.id);
+            if (scopedKey != null) {
+                ticketsByKey.asMap().remove(scopedKey, ticket.id);
+            }
+            throw new RuntimeException("주문이 많아 접수하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return ticket.toResponse();
+    }
+
+    public CheckoutTicketResponse getTicket(String ticketId, Long userId) {
+        Ticket ticket = tickets.getIfPresent(ticketId);
+        if (ticket == null) {
+            throw new IllegalArgumentException("주문 접수 내역을 찾을 수 없습니다.");
+        }
+        if (!ticket.userId.equals(userId)) {
+            throw new IllegalArgumentException("접근 권한이 없습니다.");
+        }
+        return ticket.toResponse();
+    }
+
+    private void run() {
+        List<Ticket> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Ticket first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("checkout batch failed", e);
+                batch.forEach(ticket -> ticket.fail("주문 처리 중 오류가 발생했습니다."));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void process(List<Ticket> batch) {
+        for (List<Ticket> round : splitByUser(batch)) {
+            if (round.size() == 1) {
+                processOne(round.get(0));
+                continue;
+            }
+            // 빈 장바구니, 포인트/재고 부족이 예상되는 주문은 묶음에서 빼고 따로 처리
+            Set<Integer> passed = orderService.precheck(round.stream().map(Ticket::checkout).toList());
+            List<Ticket> grouped = new ArrayList<>(passed.size());
+            List<Ticket> single = new ArrayList<>();
+            for (int i = 0; i < round.size(); i++) {
+                (passed.contains(i) ? grouped : single).add(round.get(i));
+            }
+
+            if (grouped.size() == 1) {
+                single.add(0, grouped.get(0));
+            } else if (!grouped.isEmpty()) {
+                processGrouped(grouped);
+            }
+            single.forEach(this::processOne);
+        }
+    }
+
+    private void processGrouped(List<Ticket> grouped) {
+        try {
+            List<OrderResponse> responses = orderService.createOrders(grouped.stream().map(Ticket::checkout).toList());
+            for (int i = 0; i < grouped.size(); i++) {
+                grouped.get(i).complete(responses.get(i).getOrderId());
+            }
+        } catch (RuntimeException e) {
+            // 확인 이후 상황이 바뀌어 묶음 전체가 롤백된 경우만 하나씩 다시 처리
+            grouped.forEach(this::processOne);
+        }
+    }
+
+    private void processOne(Ticket ticket) {
+        try {
+            ticket.complete(orderService.createOrder(ticket.userId, ticket.request).getOrderId());
+        } catch (RuntimeException e) {
+            ticket.fail(e.getMessage());
+        }
+    }
+
+    // 한 라운드에 사용자당 주문 하나 (접수 순서 유지)
+    private static List<List<Ticket>> splitByUser(List<Ticket> batch) {
+        List<List<Ticket>> rounds = new ArrayList<>();
+        List<Set<Long>> usersByRound = new ArrayList<>();
+        for (Ticket ticket : batch) {
+            int round = 0;
+            while (round < rounds.size() && usersByRound.get(round).contains(ticket.userId)) {
+                round++;
+            }
+            if (round == rounds.size()) {
+                rounds.add(new ArrayList<>());
+                usersByRound.add(new HashSet<>());
+            }
+            rounds.get(round).add(ticket);
+            usersByRound.get(round).add(ticket.userId);
+        }
+        return rounds;
+    }
+
+    static final class Ticket {
+
+        private final String id;
+        private final Long userId;
+        private final OrderRequest request;
+        private final OrderIdempotencyService.RequestFields fields;
+
+        private volatile String status = QUEUED;
+        private volatile Long orderId;
+        private volatile String message;
+
+        Ticket(String id, Long userId, OrderRequest request) {
+            this.id = id;
+            this.userId = userId;
+            this.request = request;
+            this.fields = OrderIdempotencyService.RequestFields.of(request);
+        }
+
+        OrderService.Checkout checkout() {
+            return new OrderService.Checkout(userId, request);
+        }
+
+        void complete(Long orderId) {
+            this.orderId = orderId;
+            this.status = COMPLETED;
+        }
+
+        void fail(String message) {
+            this.message = message;
+            this.status = FAILED;
+        }
+
+        CheckoutTicketResponse toResponse() {
+            return CheckoutTicketResponse.builder()
+                    .ticketId(id)
+                    .status(status)
+                    .orderId(orderId)
+                    .message(message)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.coffee.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.example.coffee.dto.CursorPageResponse;
+
+/**
+ * 불투명(opaque) 커서 인코딩/디코딩
+ * 클라이언트는 커서 내용을 해석하지 않고 nextCursor를 그대로 돌려준다.
+ */
+public final class CursorCodec {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private static final String ID_PREFIX = "id:";
+    private static final String TIME_ID_PREFIX = "t:";
+    private static final char TIME_ID_SEPARATOR = '|';
+
+    private CursorCodec() {
+    }
+
+    public static String encodeId(Long id) {
+        return encode(ID_PREFIX + id);
+    }
+
+    // 커서가 없으면 0 (첫 페이지)
+    public static long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        String raw = decode(cursor);
+        if (!raw.startsWith(ID_PREFIX)) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        try {
+            return Long.parseLong(raw.substring(ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    // (created_at, id) 커서 - 최신순 이력 목록용
+    public static String encodeTimeId(LocalDateTime createdAt, Long id) {
+        return encode(TIME_ID_PREFIX + createdAt + TIME_ID_SEPARATOR + id);
+    }
+
+    // 커서가 없으면 null (첫 페이지)
+    public static TimeId decodeTimeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw = decode(cursor);
+        int separator = raw.lastIndexOf(TIME_ID_SEPARATOR);
+        if (!raw.startsWith(TIME_ID_PREFIX) || separator < 0) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        try {
+            return new TimeId(
+                    LocalDateTime.parse(raw.substring(TIME_ID_PREFIX.length(), separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public static int pageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * size + 1 건을 조회한 결과로 페이지를 만든다.
+     * 마지막 건이 있으면 다음 페이지가 존재한다.
+     */
+    public static <E, T> CursorPageResponse<T> page(List<E> rows, int size,
+                                                    Function<E, T> mapper,
+                                                    Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .items(pageRows.stream().map(mapper).toList())
+                .nextCursor(hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public record TimeId(LocalDateTime createdAt, long id) {
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.coffee.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.example.coffee.event.StockChangedEvent;
+import org.example.coffee.repository.ProductVariantRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DB 재고 차감 (기본 모드)
+ * 라인마다 "stock >= 수량" 조건부 UPDATE 한 번으로 확인과 차감을 같이 처리한다. (라인 전체를 JDBC 배치 한 번으로)
+ * SELECT ... FOR UPDATE 없이 UPDATE가 잡은 행 잠금만 커밋까지 유지되고,
+ * 한 라인이라도 부족하면 예외로 주문 트랜잭션 전체가 롤백된다.
+ */
+@Service
+@ConditionalOnProperty(name = "app.inventory.mode", havingValue = "db", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DatabaseInventoryService implements InventoryService {
+
+    private final ProductVariantRepository productVariantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 여러 주문이 같은 상품들을 동시에 차감할 때 교착을 피하도록 항상 같은 순서로 갱신
+    private static final Comparator<Line> LOCK_ORDER = Comparator
+            .comparing(Line::productId)
+            .thenComparing(Line::optionId);
+
+    // 라인별 조건부 UPDATE를 JDBC 배치 한 번으로 전송 (반영 행 수는 라인마다 받는다)
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE product_variant SET stock = stock - ? WHERE product_id = ? AND option_id = ? AND stock >= ?";
+
+    @Override
+    @Transactional
+    public void reserve(List<Line> lines) {
+        List<Line> sorted = lines.stream().sorted(LOCK_ORDER).toList();
+        int[] updated = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Line line = sorted.get(i);
+                ps.setInt(1, line.quantity());
+                ps.setLong(2, line.productId());
+                ps.setLong(3, line.optionId());
+                ps.setInt(4, line.quantity());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return sorted.size();
+            }
+        });
+
+        List<StockChangedEvent.Delta> deltas = new ArrayList<>(lines.size());
+        List<Line> missed = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            Line line = sorted.get(i);
+            if (updated[i] > 0) {
+                deltas.add(new StockChangedEvent.Delta(line.productId(), line.optionId(), -line.quantity()));
+            } else {
+                missed.add(line);
+            }
+        }
+
+        // 반영되지 않은 라인 중 재고 행이 있는 것은 재고 부족 (없는 옵션은 재고 관리 대상이 아님)
+        if (!missed.isEmpty()) {
+            Set<List<Long>> tracked = new HashSet<>();
+            for (Object[] row : productVariantRepository.findKeysByProductIdIn(
+                    missed.stream().map(Line::productId).collect(Collectors.toSet()))) {
+                tracked.add(List.of((Long) row[0], (Long) row[1]));
+            }
+            for (Line line : missed) {
+                if (tracked.contains(List.of(line.productId(), line.optionId()))) {
+                    throw new IllegalArgumentException("재고가 부족합니다. (상품 " + line.productId()
+                            + ", 옵션 " + line.optionId() + ")");
+                }
+            }
+        }
+        publish(deltas);
+    }
+
+    @Override
+    @Transactional
+    public void release(List<Line> lines) {
+        List<StockChangedEvent.Delta> deltas = new ArrayList<>(lines.size());
+        for (Line line : lines.stream().sorted(LOCK_ORDER).toList()) {
+            if (productVariantRepository.addStock(line.productId(), line.optionId(), line.quantity()) > 0) {
+                deltas.add(new StockChangedEvent.Delta(line.productId(), line.optionId(), line.quantity()));
+            }
+        }
+        publish(deltas);
+    }
+
+    @Override
+    public boolean writeBehind() {
+        return false;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Variant, Integer> available(Collection<Variant> variants) {
+        Map<Variant, Integer> stock = new HashMap<>();
+        if (variants.isEmpty()) {
+            return stock;
+        }
+        Set<Variant> wanted = new HashSet<>(variants);
+        for (Object[] row : productVariantRepository.findStockByProductIdIn(
+                wanted.stream().map(Variant::productId).collect(Collectors.toSet()))) {
+            Variant variant = new Variant((Long) row[0], (Long) row[1]);
+            if (wanted.contains(variant)) {
+                stock.put(variant, (Integer) row[2]);
+            }
+        }
+        return stock;
+    }
+
+    @Override
+    public Map<Variant, Integer> stockSnapshot() {
+        Map<Variant, Integer> stock = new HashMap<>();
+        for (Object[] row : productVariantRepository.findAllStock()) {
+            stock.put(new Variant((Long) row[0], (Long) row[1]), (Integer) row[2]);
+        }
+        return stock;
+    }
+
+    // 커밋 후 품절 상태 갱신
+    private void publish(List<StockChangedEvent.Delta> deltas) {
+        if (!deltas.isEmpty()) {
+            eventPublisher.publishEvent(new StockChangedEvent(deltas));
+        }
+    }
+}
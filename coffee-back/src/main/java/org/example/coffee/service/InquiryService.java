@@ -1,14 +1,18 @@
 package org.example.coffee.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.coffee.dto.CursorPageResponse;
 import org.example.coffee.dto.InquiryRequest;
 import org.example.coffee.dto.InquiryResponse;
 import org.example.coffee.entity.Product;
 import org.example.coffee.entity.ProductInquiry;
 import org.example.coffee.entity.User;
+import org.example.coffee.event.CatalogChangedEvent;
 import org.example.coffee.repository.ProductInquiryRepository;
 import org.example.coffee.repository.ProductRepository;
 import org.example.coffee.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +27,7 @@ public class InquiryService {
     private final ProductInquiryRepository inquiryRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 상품별 문의 목록 조회
     public List<InquiryResponse> getInquiriesByProduct(Long productId, Long currentUserId) {
@@ -65,12 +70,18 @@ public class InquiryService {
         return InquiryResponse.from(inquiry);
     }
 
-    // 내 문의 목록 조회
-    public List<InquiryResponse> getMyInquiries(Long userId) {
-        List<ProductInquiry> inquiries = inquiryRepository.findByUserIdWithProduct(userId);
-        return inquiries.stream()
-                .map(InquiryResponse::from)
-                .collect(Collectors.toList());
+    // 내 문의 목록 조회 (최신순 커서 페이지)
+    public CursorPageResponse<InquiryResponse> getMyInquiries(Long userId, String cursor, int size) {
+        int pageSize = CursorCodec.pageSize(size);
+        CursorCodec.TimeId after = CursorCodec.decodeTimeId(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ProductInquiry> inquiries = after == null
+                ? inquiryRepository.findPageByUserIdWithProduct(userId, limit)
+                : inquiryRepository.findPageByUserIdWithProductAfter(userId, after.createdAt(), after.id(), limit);
+
+        return CursorCodec.page(inquiries, pageSize, InquiryResponse::from,
+                inquiry -> CursorCodec.encodeTimeId(inquiry.getCreatedAt(), inquiry.getInquiryId()));
     }
 
     // 상품별 문의 개수
@@ -96,6 +107,7 @@ public class InquiryService {
                 .build();
 
         ProductInquiry saved = inquiryRepository.save(inquiry);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Section.INQUIRY));
         return InquiryResponse.from(saved);
     }
 
@@ -118,6 +130,7 @@ public class InquiryService {
         inquiry.setTitle(request.getTitle());
         inquiry.setContent(request.getContent());
         inquiry.setIsSecret(request.getIsSecret() != null ? request.getIsSecret() : inquiry.getIsSecret());
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Section.INQUIRY));
 
         return InquiryResponse.from(inquiry);
     }
@@ -134,5 +147,6 @@ public class InquiryService {
         }
 
         inquiryRepository.delete(inquiry);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Section.INQUIRY));
     }
 }
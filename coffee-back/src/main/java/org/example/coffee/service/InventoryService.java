@@ -0,0 +1,47 @@
+package org.example.coffee.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 시 상품 재고 (product_variant) 차감
+ * app.inventory.mode 로 구현을 고른다.
+ * - db: 라인마다 DB 조건부 UPDATE (DatabaseInventoryService)
+ * - memory: 인메모리 스트라이프 카운터로 판정 후 DB에 지연 반영 (StripedInventoryService)
+ */
+public interface InventoryService {
+
+    /**
+     * 주문 트랜잭션 안에서 호출. 한 라인이라도 재고가 부족하면 IllegalArgumentException
+     * 재고 행이 없는 (상품, 옵션)은 재고 관리 대상이 아니므로 통과한다.
+     */
+    void reserve(List<Line> lines);
+
+    // 취소된 주문의 재고 반환 (취소 트랜잭션 안에서 호출)
+    void release(List<Line> lines);
+
+    // 주문 커밋 시점에 DB 재고가 이미 차감되어 있는지 (false면 지연 반영)
+    boolean writeBehind();
+
+    /**
+     * 현재 남은 재고 (잠그지 않고 읽기만 하므로 미리 걸러내는 용도, 실제 판정은 reserve)
+     * 재고 행이 없는 (상품, 옵션)은 결과에 없다.
+     */
+    Map<Variant, Integer> available(Collection<Variant> variants);
+
+    /**
+     * 모든 재고 행의 현재 재고 (품절 비트맵 전체 재계산용)
+     * 주문 판정에 쓰는 값과 같은 기준이어야 한다. (memory 모드는 DB가 아니라 카운터)
+     */
+    Map<Variant, Integer> stockSnapshot();
+
+    record Line(Long productId, Long optionId, int quantity) {
+        Variant variant() {
+            return new Variant(productId, optionId);
+        }
+    }
+
+    record Variant(Long productId, Long optionId) {
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.coffee.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import org.example.coffee.dto.OrderRequest;
+import org.example.coffee.dto.OrderResponse;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 주문 생성 멱등성 (Idempotency-Key 헤더)
+ * (사용자, 키)마다 첫 요청의 결과인 주문 ID만 TTL 캐시에 남겨 두고,
+ * 같은 키로 재시도하면 주문을 다시 만들지 않고 저장된 주문을 조회해 돌려준다.
+ * 같은 키의 요청이 동시에 들어오면 먼저 들어온 요청만 주문을 만들고 나머지는 그 결과를 기다린다.
+ * 실패한 요청은 남기지 않으므로 같은 키로 다시 시도할 수 있다.
+ */
+@Service
+public class OrderIdempotencyService {
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderService orderService;
+    private final Cache<Key, Entry> entries;
+    private final long waitMillis;
+
+    public OrderIdempotencyService(
+            OrderService orderService,
+            @Value("${app.order.idempotency-ttl-minutes}") long ttlMinutes,
+            @Value("${app.order.idempotency-maximum-size}") long maximumSize,
+            @Value("${app.order.idempotency-wait-ms}") long waitMillis
+    ) {
+        this.orderService = orderService;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.waitMillis = waitMillis;
+    }
+
+    public OrderResponse createOrder(Long userId, String idempotencyKey, OrderRequest request) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return orderService.createOrder(userId, request);
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key가 너무 깁니다.");
+        }
+
+        Key key = new Key(userId, idempotencyKey);
+        Entry mine = new Entry(RequestFields.of(request), new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, mine);
+
+        // 재시도 또는 동시 중복 요청 - 장바구니/포인트/재고는 건드리지 않는다
+        if (existing != null) {
+            if (!existing.request().equals(mine.request())) {
+                throw new IllegalArgumentException("같은 Idempotency-Key로 다른 주문을 요청할 수 없습니다.");
+            }
+            return orderService.getOrderById(await(existing.orderId()), userId);
+        }
+
+        try {
+            OrderResponse response = orderService.createOrder(userId, request);
+            mine.orderId().complete(response.getOrderId());
+            return response;
+        } catch (RuntimeException e) {
+            entries.asMap().remove(key, mine);
+            mine.orderId().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 먼저 들어온 요청이 끝날 때까지 대기, 실패했으면 같은 예외를 던진다
+    private long await(CompletableFuture<Long> orderId) {
+        try {
+            return orderId.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("주문 처리 중 오류가 발생했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("같은 주문 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("주문 처리 대기 중 중단되었습니다.");
+        }
+    }
+
+    private record Key(Long userId, String idempotencyKey) {
+    }
+
+    // 같은 키의 요청이 같은 주문인지 비교할 요청 필드 (해시가 아니라 값 그대로 비교, CheckoutQueue도 사용)
+    record RequestFields(Long addressId, Integer usePoint, String memo) {
+
+        static RequestFields of(OrderRequest request) {
+            return new RequestFields(request.getAddressId(), request.getUsePoint(), request.getMemo());
+        }
+    }
+
+    private record Entry(RequestFields request, CompletableFuture<Long> orderId) {
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.coffee.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import org.example.coffee.event.OrderStatusChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 주문 상태 변경 알림 (발송 연동 전까지 로그로 남김, 아웃박스 커밋 후 실행)
+@Slf4j
+@Component
+public class OrderNotificationListener {
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        log.info("order notification: userId={}, orderId={}, {} -> {}",
+                event.userId(), event.orderId(), event.from(), event.to());
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.coffee.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.example.coffee.entity.OrderOutbox;
+import org.example.coffee.event.OrderStatusChangedEvent;
+import org.example.coffee.repository.OrderOutboxRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 상태 변경 아웃박스 릴레이
+ * 오래된 행부터 한 묶음씩 읽어 OrderStatusChangedEvent로 발행하고, 같은 트랜잭션에서 삭제한다.
+ * 트랜잭션 안에서 실행되는 리스너(포인트 적립/환불)의 변경은 아웃박스 삭제와 함께 커밋되므로
+ * 중간에 죽어도 이벤트를 잃거나 두 번 반영하지 않는다. 커밋 후 리스너(알림, 랭킹)는 최대 한 번 실행된다.
+ * 묶음 처리 중 하나라도 실패하면 행마다 따로 다시 처리하고, 실패한 행은 남겨 두었다가 다음 주기에 재시도한다.
+ */
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.outbox.batch-size}") int batchSize) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval-ms}")
+    public void relay() {
+        int published;
+        do {
+            published = relayBatch();
+        } while (published == batchSize);
+    }
+
+    // 한 묶음 발행, 발행(삭제)한 행 수를 반환
+    int relayBatch() {
+        try {
+            Integer published = transactionTemplate.execute(status -> {
+                List<OrderOutbox> rows = orderOutboxRepository.findOldest(Limit.of(batchSize));
+                rows.forEach(this::publish);
+                orderOutboxRepository.deleteAllInBatch(rows);
+                return rows.size();
+            });
+            return published != null ? published : 0;
+        } catch (RuntimeException e) {
+            log.warn("outbox batch failed, retrying one by one", e);
+            return relayOneByOne();
+        }
+    }
+
+    private int relayOneByOne() {
+        List<Long> ids = transactionTemplate.execute(status -> orderOutboxRepository.findOldest(Limit.of(batchSize))
+                .stream()
+                .map(OrderOutbox::getOutboxId)
+                .toList());
+        int published = 0;
+        for (Long id : ids) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> orderOutboxRepository.findById(id)
+                        .ifPresent(row -> {
+                            publish(row);
+                            orderOutboxRepository.delete(row);
+                        }));
+                published++;
+            } catch (RuntimeException e) {
+                log.error("outbox event failed: outboxId={}", id, e);
+            }
+        }
+        // 실패한 행이 있으면 이번 주기는 여기서 멈춘다
+        return published == ids.size() ? published : 0;
+    }
+
+    private void publish(OrderOutbox row) {
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                row.getOutboxId(), row.getOrderId(), row.getUserId(), row.getFromStatus(), row.getToStatus()));
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.coffee.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import org.example.coffee.entity.OrderStatus;
+import org.example.coffee.entity.Orders;
+import org.example.coffee.event.OrderStatusChangedEvent;
+import org.example.coffee.repository.OrdersRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 상태에 따른 포인트 처리
+ * 배송 완료 시 적립 포인트 지급, 취소 시 사용한 포인트 환불.
+ * 아웃박스 릴레이 트랜잭션 안에서 실행되어 아웃박스 삭제와 함께 커밋된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderPointListener {
+
+    private final OrdersRepository ordersRepository;
+    private final PointLedger pointLedger;
+
+    @EventListener
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        if (event.to() == OrderStatus.DELIVERED) {
+            Orders order = findOrder(event.orderId());
+            addPoint(order, order.getEarnedPoint(), PointLedger.EARN, "구매 확정 적립");
+        } else if (event.to() == OrderStatus.CANCELLED) {
+            Orders order = findOrder(event.orderId());
+            addPoint(order, order.getUsedPoint(), PointLedger.REFUND, "주문 취소 환불");
+        }
+    }
+
+    private Orders findOrder(Long orderId) {
+        return ordersRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다."));
+    }
+
+    private void addPoint(Orders order, Integer amount, String type, String description) {
+        if (amount == null || amount <= 0) {
+            return;
+        }
+        pointLedger.add(order.getUser().getUserId(), amount, type, order.getOrderId(), description);
+    }
+}
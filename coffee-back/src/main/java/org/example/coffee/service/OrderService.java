@@ -1,14 +1,25 @@
 package org.example.coffee.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import org.example.coffee.dto.CursorPageResponse;
 import org.example.coffee.dto.OrderRequest;
 import org.example.coffee.dto.OrderResponse;
 import org.example.coffee.entity.*;
+import org.example.coffee.event.OrderPlacedEvent;
 import org.example.coffee.repository.*;
 
 import lombok.RequiredArgsConstructor;
@@ -23,13 +34,31 @@ public class OrderService {
     private final CartItemRepository cartItemRepository;
     private final UserRepository userRepository;
     private final UserAddressRepository addressRepository;
-    private final PointHistoryRepository pointHistoryRepository;
+    private final PointLedger pointLedger;
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final InventoryService inventoryService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public List<OrderResponse> getOrdersByUserId(Long userId) {
-        List<Orders> orders = ordersRepository.findByUser_UserIdOrderByCreatedAtDesc(userId);
-        return orders.stream()
-                .map(this::toOrderResponse)
-                .collect(Collectors.toList());
+    // 주문 내역 커서 페이지 (주문 조회 1회 + 주문상품 IN 조회 1회)
+    // 커서는 마지막 주문의 (createdAt, orderId)라서 페이지 깊이와 무관하게 같은 비용
+    public CursorPageResponse<OrderResponse> getOrdersByUserId(Long userId, String cursor, int size) {
+        int pageSize = CursorCodec.pageSize(size);
+        CursorCodec.TimeId after = CursorCodec.decodeTimeId(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Orders> orders = after == null
+                ? ordersRepository.findByUser_UserIdOrderByCreatedAtDescOrderIdDesc(userId, limit)
+                : ordersRepository.findPageByUserIdAfter(userId, after.createdAt(), after.id(), limit);
+
+        Map<Long, List<OrderItem>> itemsByOrder = orders.isEmpty() ? Map.of()
+                : orderItemRepository.findWithProductAndOptionByOrderIdIn(
+                                orders.stream().limit(pageSize).map(Orders::getOrderId).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(item -> item.getOrder().getOrderId()));
+
+        return CursorCodec.page(orders, pageSize,
+                order -> toOrderResponse(order, itemsByOrder.getOrDefault(order.getOrderId(), List.of())),
+                order -> CursorCodec.encodeTimeId(order.getCreatedAt(), order.getOrderId()));
     }
 
     public OrderResponse getOrderById(Long orderId, Long userId) {
@@ -45,11 +74,88 @@ public class OrderService {
 
     @Transactional
     public OrderResponse createOrder(Long userId, OrderRequest request) {
+        PlacedOrder placed = placeOrder(userId, request);
+
+        // 재고 차감 (부족하면 주문 전체 롤백)
+        // 차감한 행의 잠금은 커밋까지 유지되므로 트랜잭션 마지막에 수행
+        inventoryService.reserve(placed.lines());
+        return placed.response();
+    }
+
+    /**
+     * 여러 사용자의 주문을 한 트랜잭션으로 생성 (CheckoutQueue)
+     * 주문은 하나씩 만들고 재고는 모든 주문의 라인을 (상품, 옵션)별로 합쳐 마지막에 한 번 차감한다.
+     * 차감 순서가 항상 같으므로 워커끼리 재고 행을 엇갈려 잠그지 않는다. 하나라도 실패하면 전체 롤백.
+     */
+    @Transactional
+    public List<OrderResponse> createOrders(List<Checkout> checkouts) {
+        List<OrderResponse> responses = new ArrayList<>(checkouts.size());
+        Map<InventoryService.Variant, Integer> demand = new LinkedHashMap<>();
+        for (Checkout checkout : checkouts) {
+            PlacedOrder placed = placeOrder(checkout.userId(), checkout.request());
+            for (InventoryService.Line line : placed.lines()) {
+                demand.merge(line.variant(), line.quantity(), Integer::sum);
+            }
+            responses.add(placed.response());
+        }
+        inventoryService.reserve(demand.entrySet().stream()
+                .map(e -> new InventoryService.Line(e.getKey().productId(), e.getKey().optionId(), e.getValue()))
+                .toList());
+        return responses;
+    }
+
+    /**
+     * 묶음에 넣기 전 흔한 실패(빈 장바구니, 포인트 부족, 재고 부족)를 잠금 없이 미리 확인 (CheckoutQueue)
+     * 재고는 앞 주문부터 차례로 배정해서 함께 처리해도 모자라지 않는 주문만 통과시킨다.
+     * 통과하지 못한 주문은 따로 처리되어 그 주문만 실패하므로, 묶음 전체가 롤백되는 일은 경쟁 상황으로 줄어든다.
+     * 반환값은 통과한 주문의 위치
+     */
+    @Transactional(readOnly = true)
+    public Set<Integer> precheck(List<Checkout> checkouts) {
+        Set<Long> userIds = checkouts.stream().map(Checkout::userId).collect(Collectors.toSet());
+
+        Map<Long, List<InventoryService.Line>> carts = new HashMap<>();
+        for (Object[] row : cartItemRepository.findLinesByUserIdIn(userIds)) {
+            carts.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                    .add(new InventoryService.Line((Long) row[1], (Long) row[2], (Integer) row[3]));
+        }
+        Map<Long, Integer> points = new HashMap<>();
+        for (Object[] row : userRepository.findPointsByUserIdIn(userIds)) {
+            points.put((Long) row[0], (Integer) row[1]);
+        }
+        Map<InventoryService.Variant, Integer> stock = new HashMap<>(inventoryService.available(carts.values().stream()
+                .flatMap(List::stream)
+                .map(InventoryService.Line::variant)
+                .collect(Collectors.toSet())));
+
+        Set<Integer> passed = new HashSet<>();
+        for (int i = 0; i < checkouts.size(); i++) {
+            Checkout checkout = checkouts.get(i);
+            List<InventoryService.Line> lines = carts.getOrDefault(checkout.userId(), List.of());
+            int usePoint = checkout.request().getUsePoint() != null ? checkout.request().getUsePoint() : 0;
+            if (lines.isEmpty() || usePoint > points.getOrDefault(checkout.userId(), 0)) {
+                continue;
+            }
+            boolean enough = lines.stream()
+                    .allMatch(line -> stock.getOrDefault(line.variant(), Integer.MAX_VALUE) >= line.quantity());
+            if (!enough) {
+                continue;
+            }
+            for (InventoryService.Line line : lines) {
+                stock.computeIfPresent(line.variant(), (variant, left) -> left - line.quantity());
+            }
+            passed.add(i);
+        }
+        return passed;
+    }
+
+    // 주문 생성, 재고 차감은 호출한 쪽에서 같은 트랜잭션 마지막에
+    private PlacedOrder placeOrder(Long userId, OrderRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        // 장바구니 조회
-        List<CartItem> cartItems = cartItemRepository.findByUser_UserId(userId);
+        // 장바구니 조회 (상품, 옵션 포함 한 번에)
+        List<CartItem> cartItems = cartItemRepository.findWithProductAndOptionByUser_UserId(userId);
         if (cartItems.isEmpty()) {
             throw new IllegalArgumentException("장바구니가 비어있습니다.");
         }
@@ -88,57 +194,164 @@ public class OrderService {
                 .usedPoint(usePoint)
                 .earnedPoint(earnedPoint)
                 .finalPrice(finalPrice)
-                .status("PENDING")
+                .status(OrderStatus.PENDING)
                 .recipient(address.getRecipient())
                 .phone(address.getPhone())
                 .zipcode(address.getZipcode())
                 .address(address.getAddress())
                 .addressDetail(address.getAddressDetail())
                 .memo(request.getMemo())
+                .stockSynced(!inventoryService.writeBehind())
                 .build();
 
         Orders savedOrder = ordersRepository.save(order);
 
-        // 주문 상품 생성
+        // 주문 상품 생성 (시퀀스 ID라 flush 시 JDBC 배치 한 번으로 insert)
+        List<OrderItem> orderItems = new ArrayList<>(cartItems.size());
         for (CartItem cartItem : cartItems) {
             int itemPrice = (cartItem.getProduct().getBasePrice() + cartItem.getOption().getExtraPrice()) * cartItem.getQuantity();
 
-            OrderItem orderItem = OrderItem.builder()
+            orderItems.add(OrderItem.builder()
                     .order(savedOrder)
                     .product(cartItem.getProduct())
                     .option(cartItem.getOption())
                     .quantity(cartItem.getQuantity())
                     .price(itemPrice)
-                    .build();
+                    .build());
+        }
+        orderItemRepository.saveAll(orderItems);
+
+        // 포인트 차감 (잔액 확인과 차감을 UPDATE 한 번으로, 내역은 차감 후 잔액과 함께 원장에 추가)
+        pointLedger.use(userId, usePoint, savedOrder.getOrderId(), "주문 사용");
 
-            orderItemRepository.save(orderItem);
+        // 장바구니 비우기 (DELETE 한 번)
+        cartItemRepository.deleteByUser_UserId(userId);
+
+        // 커밋 후 판매 랭킹 등에 반영
+        eventPublisher.publishEvent(new OrderPlacedEvent(savedOrder.getOrderId(), userId,
+                cartItems.stream()
+                        .map(item -> new OrderPlacedEvent.Line(
+                                item.getProduct().getProductId(),
+                                item.getOption().getOptionId(),
+                                item.getQuantity()))
+                        .toList()));
+
+        List<InventoryService.Line> lines = cartItems.stream()
+                .map(item -> new InventoryService.Line(
+                        item.getProduct().getProductId(),
+                        item.getOption().getOptionId(),
+                        item.getQuantity()))
+                .toList();
+        return new PlacedOrder(toOrderResponse(savedOrder, orderItems), lines);
+    }
+
+    // 결제 완료 처리 (PENDING일 때만), 결제 대행사 확인 후 서버에서만 호출 (클라이언트 API 없음)
+    @Transactional
+    public OrderResponse payOrder(Long orderId, Long userId) {
+        Orders order = lockOwnedOrder(orderId, userId);
+        if (!transition(order, OrderStatus.PAID)) {
+            throw new IllegalArgumentException("결제할 수 없는 주문입니다.");
         }
+        return toOrderResponse(order);
+    }
 
-        // 포인트 차감
-        if (usePoint > 0) {
-            user.setPoint(user.getPoint() - usePoint);
+    // 주문 취소 (배송 시작 전까지), 사용 포인트 환불은 아웃박스 이벤트로 처리
+    @Transactional
+    public OrderResponse cancelOrder(Long orderId, Long userId) {
+        Orders order = lockOwnedOrder(orderId, userId);
+        if (!cancel(order)) {
+            throw new IllegalArgumentException("취소할 수 없는 주문입니다.");
+        }
+        return toOrderResponse(order);
+    }
 
-            PointHistory pointHistory = PointHistory.builder()
-                    .user(user)
-                    .amount(-usePoint)
-                    .type("USE")
-                    .description("주문 사용")
-                    .order(savedOrder)
-                    .balance(user.getPoint())
-                    .build();
+    // 배송 시작 (PAID, PREPARING -> SHIPPED)
+    @Transactional
+    public void shipOrder(Long orderId) {
+        Orders order = ordersRepository.findByIdForUpdate(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다."));
+        if (!transition(order, OrderStatus.SHIPPED)) {
+            throw new IllegalArgumentException("배송을 시작할 수 없는 주문입니다.");
+        }
+    }
 
-            pointHistoryRepository.save(pointHistory);
+    // 구매 확정 (SHIPPED -> DELIVERED), 적립 포인트 지급은 아웃박스 이벤트로 처리
+    @Transactional
+    public OrderResponse confirmDelivery(Long orderId, Long userId) {
+        Orders order = lockOwnedOrder(orderId, userId);
+        if (!transition(order, OrderStatus.DELIVERED)) {
+            throw new IllegalArgumentException("구매 확정할 수 없는 주문입니다.");
         }
+        return toOrderResponse(order);
+    }
 
-        // 장바구니 비우기
-        cartItemRepository.deleteByUser_UserId(userId);
+    /**
+     * 결제 대기 시간이 지난 주문 취소 (PendingOrderExpirer)
+     * 아직 PENDING인 경우에만 취소하고 재고를 돌려준다. 이미 결제/취소된 주문이면 false
+     */
+    @Transactional
+    public boolean cancelUnpaidOrder(Long orderId) {
+        Orders order = ordersRepository.findByIdForUpdate(orderId).orElse(null);
+        if (order == null || order.getStatus() != OrderStatus.PENDING) {
+            return false;
+        }
+        return cancel(order);
+    }
+
+    private Orders lockOwnedOrder(Long orderId, Long userId) {
+        Orders order = ordersRepository.findByIdForUpdate(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다."));
+        if (!order.getUser().getUserId().equals(userId)) {
+            throw new IllegalArgumentException("접근 권한이 없습니다.");
+        }
+        return order;
+    }
 
-        return toOrderResponse(savedOrder);
+    private boolean cancel(Orders order) {
+        if (!transition(order, OrderStatus.CANCELLED)) {
+            return false;
+        }
+        inventoryService.release(orderItemRepository.findByOrder_OrderId(order.getOrderId()).stream()
+                .map(item -> new InventoryService.Line(
+                        item.getProduct().getProductId(),
+                        item.getOption().getOptionId(),
+                        item.getQuantity()))
+                .toList());
+        return true;
+    }
+
+    /**
+     * 상태 전이 (잠근 주문에 대해서만 호출)
+     * 허용되지 않는 전이면 false. 전이하면 시각을 남기고 같은 트랜잭션에 아웃박스 행을 기록한다.
+     */
+    private boolean transition(Orders order, OrderStatus to) {
+        OrderStatus from = order.getStatus();
+        if (!from.canTransitionTo(to)) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        order.setStatus(to);
+        switch (to) {
+            case PAID -> order.setPaidAt(now);
+            case SHIPPED -> order.setShippedAt(now);
+            case DELIVERED -> order.setDeliveredAt(now);
+            default -> {
+            }
+        }
+        orderOutboxRepository.save(OrderOutbox.builder()
+                .orderId(order.getOrderId())
+                .userId(order.getUser().getUserId())
+                .fromStatus(from)
+                .toStatus(to)
+                .build());
+        return true;
     }
 
     private OrderResponse toOrderResponse(Orders order) {
-        List<OrderItem> items = orderItemRepository.findByOrder_OrderId(order.getOrderId());
+        return toOrderResponse(order, orderItemRepository.findByOrder_OrderId(order.getOrderId()));
+    }
 
+    private OrderResponse toOrderResponse(Orders order, List<OrderItem> items) {
         List<OrderResponse.OrderItemDto> itemDtos = items.stream()
                 .map(item -> OrderResponse.OrderItemDto.builder()
                         .orderItemId(item.getOrderItemId())
@@ -158,7 +371,7 @@ public class OrderService {
                 .usedPoint(order.getUsedPoint())
                 .earnedPoint(order.getEarnedPoint())
                 .finalPrice(order.getFinalPrice())
-                .status(order.getStatus())
+                .status(order.getStatus().name())
                 .recipient(order.getRecipient())
                 .phone(order.getPhone())
                 .zipcode(order.getZipcode())
@@ -172,4 +385,11 @@ public class OrderService {
                 .items(itemDtos)
                 .build();
     }
+
+    // 묶음 주문 한 건
+    public record Checkout(Long userId, OrderRequest request) {
+    }
+
+    private record PlacedOrder(OrderResponse response, List<InventoryService.Line> lines) {
+    }
 }
@@ -0,0 +1,101 @@
+package org.example.coffee.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import org.example.coffee.entity.OrderStatus;
+import org.example.coffee.event.OrderPlacedEvent;
+import org.example.coffee.repository.OrdersRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제되지 않은 PENDING 주문 자동 취소
+ * 주문마다 (생성 시각 + 결제 대기 시간)에 타이머를 걸고, 만료되면 아직 PENDING일 때만 취소하고 재고를 돌려준다.
+ * 결제된 주문의 타이머는 따로 지우지 않는다. 만료 시 주문 행을 잠그고(findByIdForUpdate) 상태를 다시 확인해
+ * PENDING이 아니면 아무 일도 하지 않는다 (OrderService.cancelUnpaidOrder).
+ * 타이머는 메모리에만 있으므로 기동 시 PENDING 주문으로 다시 만든다.
+ * 결제 대행사 연동으로 payOrder 가 호출되기 전까지는 app.order.expiry-enabled=true 일 때만 동작한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.order.expiry-enabled", havingValue = "true")
+public class PendingOrderExpirer {
+
+    private final OrdersRepository ordersRepository;
+    private final OrderService orderService;
+    private final long timeoutMillis;
+    private final long retryMillis;
+    private final TimingWheel wheel;
+
+    public PendingOrderExpirer(OrdersRepository ordersRepository,
+                               OrderService orderService,
+                               @Value("${app.order.payment-timeout-minutes}") long timeoutMinutes,
+                               @Value("${app.order.expiry-tick-ms}") long tickMillis,
+                               @Value("${app.order.expiry-wheel-size}") int wheelSize) {
+        this.ordersRepository = ordersRepository;
+        this.orderService = orderService;
+        this.timeoutMillis = timeoutMinutes * 60_000;
+        this.retryMillis = Math.max(tickMillis, 60_000);
+        this.wheel = new TimingWheel("order-expiry", tickMillis, wheelSize, this::expire);
+    }
+
+    @PostConstruct
+    public void start() {
+        wheel.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        wheel.stop();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> rows = ordersRepository.findIdAndCreatedAtByStatus(OrderStatus.PENDING);
+        ZoneId zone = ZoneId.systemDefault();
+        for (Object[] row : rows) {
+            long createdAt = ((LocalDateTime) row[1]).atZone(zone).toInstant().toEpochMilli();
+            wheel.schedule((Long) row[0], createdAt + timeoutMillis);
+        }
+        log.info("pending order timers rebuilt: orders={}", rows.size());
+    }
+
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        wheel.schedule(event.orderId(), System.currentTimeMillis() + timeoutMillis);
+    }
+
+    public int pendingTimers() {
+        return wheel.size();
+    }
+
+    private void expire(List<Long> orderIds) {
+        int cancelled = 0;
+        for (Long orderId : orderIds) {
+            try {
+                if (orderService.cancelUnpaidOrder(orderId)) {
+                    cancelled++;
+                }
+            } catch (RuntimeException e) {
+                // 잠시 후 다시 시도
+                wheel.schedule(orderId, System.currentTimeMillis() + retryMillis);
+                log.error("failed to expire order: orderId={}", orderId, e);
+            }
+        }
+        if (cancelled > 0) {
+            log.info("expired unpaid orders: cancelled={}, checked={}", cancelled, orderIds.size());
+        }
+    }
+}
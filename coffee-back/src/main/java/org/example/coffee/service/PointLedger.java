@@ -0,0 +1,57 @@
+package org.example.coffee.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.example.coffee.repository.PointHistoryRepository;
+import org.example.coffee.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 원장 (append-only)
+ * 잔액(user.point) 변경은 모두 여기를 거친다. 조건부 UPDATE로 잔액을 바꾸면서 사용자 행을 잠그고,
+ * 이어서 INSERT ... SELECT로 변경 후 잔액을 DB에서 읽어 point_history에 한 줄 추가한다.
+ * 사용자 행 잠금이 커밋까지 유지되므로 같은 사용자의 변경은 차례로 반영되어 유실되지 않고,
+ * 잔액은 음수가 될 수 없으며, 내역의 balance는 항상 그 시점의 실제 잔액이다.
+ * 내역은 수정/삭제하지 않는다. (취소는 REFUND 줄을 추가)
+ */
+@Component
+@RequiredArgsConstructor
+public class PointLedger {
+
+    public static final String USE = "USE";
+    public static final String EARN = "EARN";
+    public static final String REFUND = "REFUND";
+
+    private final UserRepository userRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    // 사용 (잔액이 부족하면 예외, 호출한 트랜잭션 전체가 롤백)
+    @Transactional
+    public void use(Long userId, int amount, Long orderId, String description) {
+        if (amount <= 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (userRepository.usePoint(userId, amount, now) == 0) {
+            throw new IllegalArgumentException("포인트가 부족합니다.");
+        }
+        pointHistoryRepository.append(userId, -amount, USE, description, orderId, now);
+    }
+
+    // 적립/환불
+    @Transactional
+    public void add(Long userId, int amount, String type, Long orderId, String description) {
+        if (amount <= 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (userRepository.addPoint(userId, amount, now) == 0) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        pointHistoryRepository.append(userId, amount, type, description, orderId, now);
+    }
+}
@@ -1,14 +1,14 @@
 package org.example.coffee.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import org.example.coffee.dto.CursorPageResponse;
 import org.example.coffee.dto.PointHistoryResponse;
 import org.example.coffee.entity.PointHistory;
-import org.example.coffee.entity.User;
 import org.example.coffee.repository.PointHistoryRepository;
 import org.example.coffee.repository.UserRepository;
 
@@ -22,17 +22,27 @@ public class PointService {
     private final PointHistoryRepository pointHistoryRepository;
     private final UserRepository userRepository;
 
+    // 잔액은 원장(point_history)을 합산하지 않고 PointLedger가 함께 갱신하는 user.point를 그대로 읽는다
     public Integer getCurrentPoint(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        return user.getPoint();
+        Integer point = userRepository.findPointByUserId(userId);
+        if (point == null) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        return point;
     }
 
-    public List<PointHistoryResponse> getPointHistory(Long userId) {
-        List<PointHistory> history = pointHistoryRepository.findByUser_UserIdOrderByCreatedAtDesc(userId);
-        return history.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    // 최신순 커서 페이지 (createdAt, historyId)
+    public CursorPageResponse<PointHistoryResponse> getPointHistory(Long userId, String cursor, int size) {
+        int pageSize = CursorCodec.pageSize(size);
+        CursorCodec.TimeId after = CursorCodec.decodeTimeId(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<PointHistory> history = after == null
+                ? pointHistoryRepository.findByUser_UserIdOrderByCreatedAtDescHistoryIdDesc(userId, limit)
+                : pointHistoryRepository.findPageByUserIdAfter(userId, after.createdAt(), after.id(), limit);
+
+        return CursorCodec.page(history, pageSize, this::toResponse,
+                h -> CursorCodec.encodeTimeId(h.getCreatedAt(), h.getHistoryId()));
     }
 
     private PointHistoryResponse toResponse(PointHistory history) {
@@ -0,0 +1,135 @@
+package org.example.coffee.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.example.coffee.entity.PointSnapshot;
+import org.example.coffee.repository.PointHistoryRepository;
+import org.example.coffee.repository.PointSnapshotRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 포인트 원장 스냅샷
+ * 주기적으로 새로 추가된 point_history 가 있는 사용자만 골라 (마지막 내역 ID, 그 시점 잔액)을 point_snapshot 에 기록한다.
+ * 이전 스냅샷 잔액 + 그 뒤 변동 합계가 마지막 내역의 잔액과 다르면 원장이 어긋난 것이므로 경고를 남긴다.
+ * 사용자별 확인 비용은 전체 내역이 아니라 스냅샷 이후 내역 수에 비례한다. (idx_point_history_user_id)
+ * 같은 사용자의 내역은 사용자 행 잠금 아래에서 차례로 커밋되므로(PointLedger) 사용자별 마지막 ID 이전 내역이 늦게 보이는 일은 없다.
+ */
+@Slf4j
+@Component
+public class PointSnapshotter {
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointSnapshotRepository pointSnapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    // 여기까지의 내역은 확인함 (다른 사용자 내역이 늦게 커밋되어 건너뛰어도 그 사용자의 다음 변동 때 합계에 포함된다)
+    private final AtomicLong watermark = new AtomicLong(-1);
+    private final AtomicLong drifted = new AtomicLong();
+
+    public PointSnapshotter(PointHistoryRepository pointHistoryRepository,
+                            PointSnapshotRepository pointSnapshotRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.point.snapshot-batch-size}") int batchSize) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointSnapshotRepository = pointSnapshotRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${app.point.snapshot-interval-ms}", initialDelayString = "${app.point.snapshot-interval-ms}")
+    public void scheduledSnapshot() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.error("point snapshot failed", e);
+        }
+    }
+
+    // 밀린 내역을 모두 반영하고 스냅샷을 갱신한 사용자 수를 반환
+    public synchronized int snapshot() {
+        if (watermark.get() < 0) {
+            watermark.set(pointSnapshotRepository.findMaxLastHistoryId());
+        }
+        int users = 0;
+        int processed;
+        do {
+            Integer count = transactionTemplate.execute(status -> snapshotBatch());
+            processed = count != null ? count : 0;
+            users += processed;
+        } while (processed > 0);
+        return users;
+    }
+
+    public long drifted() {
+        return drifted.get();
+    }
+
+    // 다음 batchSize 건의 내역에 등장한 사용자들의 스냅샷 갱신
+    private int snapshotBatch() {
+        List<Object[]> rows = pointHistoryRepository.findIdsAfter(watermark.get(), Limit.of(batchSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (Object[] row : rows) {
+            userIds.add((Long) row[1]);
+        }
+
+        List<Object[]> sums = pointHistoryRepository.sumSinceSnapshot(userIds);
+        Map<Long, Integer> balances = new HashMap<>();
+        if (!sums.isEmpty()) {
+            for (Object[] row : pointHistoryRepository.findBalances(sums.stream().map(sum -> (Long) sum[2]).toList())) {
+                balances.put((Long) row[0], (Integer) row[1]);
+            }
+        }
+        Map<Long, PointSnapshot> snapshots = pointSnapshotRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(PointSnapshot::getUserId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Object[] sum : sums) {
+            Long userId = (Long) sum[0];
+            int delta = ((Number) sum[1]).intValue();
+            Long lastHistoryId = (Long) sum[2];
+            Integer balance = balances.get(lastHistoryId);
+
+            PointSnapshot snapshot = snapshots.get(userId);
+            if (snapshot == null) {
+                pointSnapshotRepository.save(PointSnapshot.builder()
+                        .userId(userId)
+                        .lastHistoryId(lastHistoryId)
+                        .balance(balance)
+                        .updatedAt(now)
+                        .build());
+                continue;
+            }
+            if (snapshot.getBalance() + delta != balance) {
+                drifted.incrementAndGet();
+                log.warn("point ledger drift: userId={}, snapshot={}, delta={}, balance={}, lastHistoryId={}",
+                        userId, snapshot.getBalance(), delta, balance, lastHistoryId);
+            }
+            snapshot.setLastHistoryId(lastHistoryId);
+            snapshot.setBalance(balance);
+            snapshot.setUpdatedAt(now);
+        }
+
+        watermark.set((Long) rows.get(rows.size() - 1)[0]);
+        return userIds.size();
+    }
+}
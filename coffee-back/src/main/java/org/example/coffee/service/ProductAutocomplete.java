@@ -0,0 +1,252 @@
+package org.example.coffee.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import org.example.coffee.dto.ProductSuggestionResponse;
+import org.example.coffee.entity.Product;
+import org.example.coffee.event.CatalogChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색어 자동완성 (상품명, 원산지, 가공방식)
+ * 노드마다 정렬된 char 배열로 자식을 찾는 트라이에, 노드별 인기 상위 K개를 미리 계산해 둔다.
+ * 조회는 접두어 길이만큼 내려가서 저장된 목록을 돌려주는 것이 전부다.
+ * 상품 변경은 커밋 직후(버전 증가 전) 트라이를 다시 만들어 바로 반영하고,
+ * 인기도(최근 30일 판매량, 조회수)는 주기적으로 다시 만들 때 반영한다. 순위가 바뀌면 PRODUCT 버전을 올린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductAutocomplete implements ProductIndex {
+
+    public static final int TOP_K = 10;
+
+    private static final long ORDER_WEIGHT = 10;
+    private static final long VIEW_WEIGHT = 1;
+
+    private final BestSellerRanking bestSellerRanking;
+    private final ProductViewCounter productViewCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, Entry> products = new ConcurrentHashMap<>();
+
+    private volatile Trie trie = Trie.EMPTY;
+    // 마지막으로 만든 트라이의 항목 순위 (바뀌었는지 비교용)
+    private List<String> ranking = List.of();
+
+    @Override
+    public void rebuild(List<Product> all) {
+        products.clear();
+        all.forEach(product -> products.put(product.getProductId(), Entry.of(product)));
+        rebuildTrie();
+    }
+
+    @Override
+    public void upsert(Product product) {
+        products.put(product.getProductId(), Entry.of(product));
+        rebuildTrie();
+    }
+
+    @Override
+    public void remove(Long productId) {
+        products.remove(productId);
+        rebuildTrie();
+    }
+
+    public List<ProductSuggestionResponse> suggest(String prefix, int limit) {
+        String key = ProductSearchIndex.normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        return trie.complete(key, Math.max(1, Math.min(limit, TOP_K)));
+    }
+
+    // 인기도 갱신, 순위가 바뀌었으면 캐시된 응답(ETag)도 무효화
+    @Scheduled(fixedDelayString = "${app.autocomplete.rebuild-interval-ms}")
+    public void refreshRanking() {
+        if (rebuildTrie()) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Section.PRODUCT));
+        }
+    }
+
+    // 트라이를 다시 만들고 순위가 바뀌었는지 반환 (동시에 만들 때 오래된 결과가 나중에 덮어쓰지 않도록 직렬화)
+    synchronized boolean rebuildTrie() {
+        Map<Long, Long> orders = bestSellerRanking.quantities(BestSellerRanking.LONG_WINDOW_DAYS);
+        Map<Long, Long> views = productViewCounter.snapshot();
+
+        List<Term> terms = new ArrayList<>();
+        Map<String, Long> countries = new LinkedHashMap<>();
+        Map<String, Long> types = new LinkedHashMap<>();
+
+        for (Entry entry : products.values()) {
+            long weight = 1
+                    + ORDER_WEIGHT * orders.getOrDefault(entry.productId(), 0L)
+                    + VIEW_WEIGHT * views.getOrDefault(entry.productId(), 0L);
+            terms.add(new Term(entry.name(), "PRODUCT", entry.productId(), weight));
+            if (entry.nationality() != null) {
+                countries.merge(entry.nationality(), weight, Long::sum);
+            }
+            if (entry.type() != null) {
+                types.merge(entry.type(), weight, Long::sum);
+            }
+        }
+        countries.forEach((text, weight) -> terms.add(new Term(text, "COUNTRY", null, weight)));
+        types.forEach((text, weight) -> terms.add(new Term(text, "TYPE", null, weight)));
+
+        Trie built = Trie.build(terms);
+        trie = built;
+
+        List<String> newRanking = built.ranking();
+        boolean changed = !newRanking.equals(ranking);
+        ranking = newRanking;
+        return changed;
+    }
+
+    private record Entry(Long productId, String name, String nationality, String type) {
+        static Entry of(Product product) {
+            return new Entry(product.getProductId(), product.getProductName(),
+                    product.getNationality(), product.getType());
+        }
+    }
+
+    private record Term(String text, String kind, Long productId, long weight) {
+        ProductSuggestionResponse toResponse() {
+            return ProductSuggestionResponse.builder()
+                    .text(text)
+                    .kind(kind)
+                    .productId(productId)
+                    .build();
+        }
+    }
+
+    /**
+     * 불변 트라이. 단어 중간부터 입력해도 찾을 수 있도록
+     * 각 단어 시작 위치부터의 문자열을 모두 키로 넣는다. ("에티오피아 예가체프" -> "예가체프"로도 검색)
+     */
+    private static final class Trie {
+
+        static final Trie EMPTY = new Trie(new Node(), new Term[0]);
+
+        private final Node root;
+        private final Term[] terms;
+
+        private Trie(Node root, Term[] terms) {
+            this.root = root;
+            this.terms = terms;
+        }
+
+        static Trie build(List<Term> termList) {
+            Term[] terms = termList.toArray(new Term[0]);
+            Node root = new Node();
+            Map<Node, List<Integer>> terminals = new HashMap<>();
+
+            for (int i = 0; i < terms.length; i++) {
+                List<String> tokens = ProductSearchIndex.tokenize(terms[i].text());
+                for (int start = 0; start < tokens.size(); start++) {
+                    String key = String.join("", tokens.subList(start, tokens.size()));
+                    Node node = root;
+                    for (int c = 0; c < key.length(); c++) {
+                        node = node.getOrAdd(key.charAt(c));
+                    }
+                    terminals.computeIfAbsent(node, n -> new ArrayList<>()).add(i);
+                }
+            }
+
+            Comparator<Integer> byWeight = Comparator
+                    .<Integer>comparingLong(i -> -terms[i].weight())
+                    .thenComparing(i -> terms[i].text());
+            computeTop(root, terminals, byWeight);
+            return new Trie(root, terms);
+        }
+
+        // 자식들의 상위 목록과 자기 노드에서 끝나는 항목을 합쳐 상위 K개만 남긴다
+        private static void computeTop(Node node, Map<Node, List<Integer>> terminals, Comparator<Integer> byWeight) {
+            List<Integer> candidates = new ArrayList<>(terminals.getOrDefault(node, List.of()));
+            for (Node child : node.children) {
+                computeTop(child, terminals, byWeight);
+                for (int term : child.top) {
+                    candidates.add(term);
+                }
+            }
+            node.top = candidates.stream()
+                    .distinct()
+                    .sorted(byWeight)
+                    .limit(TOP_K)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        // 가중치 순 항목 목록 (같으면 모든 접두어의 결과가 같다)
+        List<String> ranking() {
+            return Arrays.stream(terms)
+                    .sorted(Comparator.comparingLong((Term term) -> -term.weight()).thenComparing(Term::text))
+                    .map(term -> term.kind() + ":" + term.productId() + ":" + term.text())
+                    .toList();
+        }
+
+        List<ProductSuggestionResponse> complete(String key, int limit) {
+            Node node = root;
+            for (int c = 0; c < key.length() && node != null; c++) {
+                node = node.child(key.charAt(c));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            List<ProductSuggestionResponse> result = new ArrayList<>(Math.min(limit, node.top.length));
+            for (int i = 0; i < node.top.length && i < limit; i++) {
+                result.add(terms[node.top[i]].toResponse());
+            }
+            return result;
+        }
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final int[] NO_TOP = new int[0];
+
+        char[] labels = NO_LABELS;
+        Node[] children = NO_CHILDREN;
+        int[] top = NO_TOP;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node getOrAdd(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            Node child = new Node();
+
+            char[] newLabels = new char[labels.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, at);
+            newLabels[at] = c;
+            System.arraycopy(labels, at, newLabels, at + 1, labels.length - at);
+
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newChildren[at] = child;
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package org.example.coffee.service;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.example.coffee.dto.ProductListResponse;
+import org.example.coffee.event.CatalogChangedEvent;
+import org.example.coffee.event.StockChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 품절 비트맵 (productId 위치의 비트가 1이면 품절)
+ * 재고 행마다 수량을, 상품마다 (재고 행 수, 재고 있는 행 수)를 들고 있다가
+ * 재고 변경이 커밋될 때 증감만 반영하므로 변경 한 건이 O(1)이다.
+ * 재고 행이 있는 옵션이 모두 0이면 품절, 재고 행이 없는 상품은 재고 관리 대상이 아니므로 판매중.
+ * 재고 행 직접 수정 등 이벤트 밖의 변경은 주기적인 전체 재계산으로 맞춘다.
+ * 전체 재계산은 InventoryService.stockSnapshot()을 읽으므로 memory 모드에서는 flush 전 DB 재고가 아니라 카운터 기준이다.
+ * 전체 재계산과 증감이 겹치면 재계산 쪽을 다시 읽어 같은 변경이 두 번 반영되거나 빠지지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductAvailability {
+
+    private final InventoryService inventoryService;
+    private final ProductFacetIndex productFacetIndex;
+    private final CatalogCacheInvalidator catalogCacheInvalidator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 전체 재계산이 읽는 동안 증감과 겹치면 다시 읽는 횟수
+    private static final int MAX_RESYNC_ATTEMPTS = 3;
+    // 연속으로 건너뛴 회차가 이만큼 쌓이면 쓰기 잠금을 잡고 강제로 재계산
+    private static final int MAX_SKIPPED_RESYNCS = 5;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 반영된 증감 횟수와 커밋을 기다리는 증감 수 (전체 재계산이 읽은 값과 겹쳤는지 판단)
+    private final AtomicLong deltaVersion = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private boolean loaded;
+    private int skippedResyncs;
+
+    private final Map<VariantKey, Integer> stockByVariant = new HashMap<>();
+    private final Map<Long, Counts> countsByProduct = new HashMap<>();
+    private final BitSet soldOut = new BitSet();
+
+    public boolean isInStock(Long productId) {
+        lock.readLock().lock();
+        try {
+            return !soldOut.get(Math.toIntExact(productId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ProductListResponse apply(ProductListResponse product) {
+        boolean inStock = isInStock(product.getProductId());
+        return product.isInStock() == inStock ? product : product.toBuilder().inStock(inStock).build();
+    }
+
+    // 패싯 인덱스가 먼저 구성된 뒤에 품절 표시를 얹는다
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void load() {
+        resync();
+    }
+
+    @Scheduled(fixedDelayString = "${app.availability.resync-interval-ms}", initialDelayString = "${app.availability.resync-interval-ms}")
+    public void scheduledResync() {
+        resync();
+    }
+
+    /**
+     * 전체 재계산. 재고를 잠금 밖에서 읽으므로, 읽는 동안 커밋 전후의 증감이 있었다면
+     * 그 증감이 읽은 값에 이미 들어 있는지 알 수 없어 (이중 반영/유실) 결과를 버리고 다시 읽는다.
+     * 계속 겹치면 이번 회차는 건너뛰고 반영 여부를 반환한다. (처음 적재는 비어 있는 것보다 나으므로 반영)
+     * 주문이 끊이지 않아 MAX_SKIPPED_RESYNCS 회차를 연달아 건너뛰면 forceResync()로 넘어간다.
+     */
+    public synchronized boolean resync() {
+        if (skippedResyncs >= MAX_SKIPPED_RESYNCS) {
+            forceResync();
+            return true;
+        }
+        for (int attempt = 1; attempt <= MAX_RESYNC_ATTEMPTS; attempt++) {
+            long version = deltaVersion.get();
+            boolean quiet = inFlight.get() == 0;
+            Map<InventoryService.Variant, Integer> stock = inventoryService.stockSnapshot();
+
+            BitSet flipped;
+            lock.writeLock().lock();
+            try {
+                boolean stale = !quiet || inFlight.get() > 0 || deltaVersion.get() != version;
+                if (stale && (loaded || attempt < MAX_RESYNC_ATTEMPTS)) {
+                    continue;
+                }
+                flipped = replace(stock);
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            skippedResyncs = 0;
+            // 처음 읽을 때는 품절 상품 전부가 바뀐 것으로 잡혀 인덱스에 반영된다
+            publishFlips(flipped);
+            log.debug("product availability resynced: variants={}, soldOut={}, attempt={}",
+                    stock.size(), soldOut.cardinality(), attempt);
+            return true;
+        }
+        skippedResyncs++;
+        log.warn("product availability resync skipped: stock changes kept overlapping the snapshot, skipped={}",
+                skippedResyncs);
+        return false;
+    }
+
+    /**
+     * 쓰기 잠금을 잡은 채로 읽어서 교체. 읽는 동안 증감 반영이 멈추므로 반영 전후가 섞이지 않는다.
+     * 잠금을 잡을 때 이미 커밋 중이던 증감 몇 건은 어긋날 수 있지만, 이벤트 밖의 변경이 무한정 밀리는 것보다 낫고
+     * 다음 정상 재계산에서 맞춰진다. 읽는 동안 품절 조회와 커밋된 증감 반영은 잠깐 기다린다. (주문 판정은 무관)
+     */
+    private void forceResync() {
+        BitSet flipped;
+        int variants;
+        lock.writeLock().lock();
+        try {
+            Map<InventoryService.Variant, Integer> stock = inventoryService.stockSnapshot();
+            flipped = replace(stock);
+            variants = stock.size();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.warn("product availability resync forced after {} skipped rounds: variants={}", skippedResyncs, variants);
+        skippedResyncs = 0;
+        publishFlips(flipped);
+    }
+
+    /**
+     * 재고 증감 반영
+     * 트랜잭션 안에서 발행되면 커밋 전부터 진행 중으로 세어 두고 커밋된 경우에만 반영한다.
+     * 반영은 쓰기 잠금 아래에서 버전을 올리므로 그 사이 읽은 전체 재계산 결과는 버려진다.
+     */
+    @EventListener
+    public void onStockChanged(StockChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyDeltas(event.deltas());
+            return;
+        }
+        inFlight.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        applyDeltas(event.deltas());
+                    }
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    private void applyDeltas(List<StockChangedEvent.Delta> deltas) {
+        BitSet flipped = new BitSet();
+        lock.writeLock().lock();
+        try {
+            deltaVersion.incrementAndGet();
+            for (StockChangedEvent.Delta delta : deltas) {
+                VariantKey key = new VariantKey(delta.productId(), delta.optionId());
+                Integer before = stockByVariant.get(key);
+                if (before == null) {
+                    continue; // 아직 모르는 재고 행은 다음 재계산에서 반영
+                }
+                int after = before + delta.delta();
+                stockByVariant.put(key, after);
+                if ((before > 0) == (after > 0)) {
+                    continue;
+                }
+
+                Counts counts = countsByProduct.get(delta.productId());
+                counts.inStock += after > 0 ? 1 : -1;
+                int bit = Math.toIntExact(delta.productId());
+                if (soldOut.get(bit) != counts.isSoldOut()) {
+                    soldOut.flip(bit);
+                    flipped.flip(bit);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        publishFlips(flipped);
+    }
+
+    // 읽은 재고로 전체 교체하고 품절 여부가 바뀐 상품을 반환 (쓰기 잠금 안에서 호출)
+    private BitSet replace(Map<InventoryService.Variant, Integer> rows) {
+        stockByVariant.clear();
+        countsByProduct.clear();
+        for (Map.Entry<InventoryService.Variant, Integer> row : rows.entrySet()) {
+            Long productId = row.getKey().productId();
+            int stock = row.getValue();
+            stockByVariant.put(new VariantKey(productId, row.getKey().optionId()), stock);
+            Counts counts = countsByProduct.computeIfAbsent(productId, id -> new Counts());
+            counts.variants++;
+            if (stock > 0) {
+                counts.inStock++;
+            }
+        }
+
+        BitSet next = new BitSet();
+        countsByProduct.forEach((productId, counts) -> {
+            if (counts.isSoldOut()) {
+                next.set(Math.toIntExact(productId));
+            }
+        });
+        BitSet flipped = (BitSet) soldOut.clone();
+        flipped.xor(next);
+        soldOut.clear();
+        soldOut.or(next);
+        return flipped;
+    }
+
+    // 품절/재입고가 생긴 경우에만 인덱스와 캐시, ETag 버전을 갱신 (드묾)
+    private void publishFlips(BitSet flipped) {
+        if (flipped.isEmpty()) {
+            return;
+        }
+        for (int bit = flipped.nextSetBit(0); bit >= 0; bit = flipped.nextSetBit(bit + 1)) {
+            productFacetIndex.markSoldOut((long) bit, !isInStock((long) bit));
+        }
+        catalogCacheInvalidator.clearAll();
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Section.PRODUCT));
+        log.info("product availability changed: products={}", flipped.cardinality());
+    }
+
+    private record VariantKey(Long productId, Long optionId) {
+    }
+
+    private static final class Counts {
+        int variants;
+        int inStock;
+
+        boolean isSoldOut() {
+            return variants > 0 && inStock == 0;
+        }
+    }
+}
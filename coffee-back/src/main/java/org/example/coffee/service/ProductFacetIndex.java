@@ -0,0 +1,275 @@
+package org.example.coffee.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import org.example.coffee.dto.ProductListResponse;
+import org.example.coffee.entity.Product;
+
+/**
+ * 상품 패싯 인덱스 (대륙, 원산지, 가공방식, 가격대)
+ * 상품마다 고정 슬롯 번호를 부여하고, 패싯 값마다 슬롯 BitSet을 유지한다.
+ * 패싯 안에서는 OR, 패싯 사이에서는 AND로 교집합을 구한다.
+ */
+@Component
+public class ProductFacetIndex implements ProductIndex {
+
+    public enum Facet {
+        CONTINENT("continent"),
+        NATIONALITY("nationality"),
+        TYPE("type"),
+        PRICE_BAND("priceBand");
+
+        private final String key;
+
+        Facet(String key) {
+            this.key = key;
+        }
+
+        public String key() {
+            return key;
+        }
+    }
+
+    // 가격대 구간 (원)
+    static final int PRICE_BAND_WIDTH = 10000;
+    static final int PRICE_BAND_MAX = 50000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotByProductId = new HashMap<>();
+    private final List<ProductListResponse> productBySlot = new ArrayList<>();
+    private final List<String[]> valuesBySlot = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    // 품절 상품 슬롯 (ProductAvailability가 갱신)
+    private final BitSet soldOut = new BitSet();
+    private final Map<Facet, Map<String, BitSet>> postings = new EnumMap<>(Facet.class);
+
+    public ProductFacetIndex() {
+        for (Facet facet : Facet.values()) {
+            postings.put(facet, new HashMap<>());
+        }
+    }
+
+    public static String priceBandOf(int price) {
+        int band = Math.min(price / PRICE_BAND_WIDTH * PRICE_BAND_WIDTH, PRICE_BAND_MAX);
+        return String.valueOf(band);
+    }
+
+    @Override
+    public void rebuild(List<Product> products) {
+        lock.writeLock().lock();
+        try {
+            slotByProductId.clear();
+            productBySlot.clear();
+            valuesBySlot.clear();
+            freeSlots.clear();
+            live.clear();
+            soldOut.clear();
+            postings.values().forEach(Map::clear);
+            products.forEach(this::upsertLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(Product product) {
+        lock.writeLock().lock();
+        try {
+            upsertLocked(product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByProductId.remove(productId);
+            if (slot == null) {
+                return;
+            }
+            unindex(slot);
+            productBySlot.set(slot, null);
+            valuesBySlot.set(slot, null);
+            live.clear(slot);
+            soldOut.clear(slot);
+            freeSlots.push(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public ProductListResponse get(Long productId) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotByProductId.get(productId);
+            return slot != null ? productBySlot.get(slot) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 품절 여부가 바뀐 상품 반영 (O(1))
+    public void markSoldOut(Long productId, boolean isSoldOut) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByProductId.get(productId);
+            if (slot == null) {
+                return;
+            }
+            soldOut.set(slot, isSoldOut);
+            productBySlot.set(slot, productBySlot.get(slot).toBuilder().inStock(!isSoldOut).build());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByProductId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 패싯 조건으로 상품을 찾고, 선택 가능한 패싯 값별 개수를 함께 계산한다.
+     * 각 패싯의 개수는 해당 패싯을 제외한 나머지 조건 기준으로 센다.
+     * inStockOnly면 품절 상품은 결과와 개수에서 모두 빠진다.
+     */
+    public Result search(Map<Facet, Set<String>> filters, boolean inStockOnly) {
+        lock.readLock().lock();
+        try {
+            Map<Facet, BitSet> unions = new EnumMap<>(Facet.class);
+            for (Map.Entry<Facet, Set<String>> entry : filters.entrySet()) {
+                if (entry.getValue() == null || entry.getValue().isEmpty()) {
+                    continue;
+                }
+                BitSet union = new BitSet();
+                Map<String, BitSet> byValue = postings.get(entry.getKey());
+                for (String value : entry.getValue()) {
+                    BitSet bits = byValue.get(value);
+                    if (bits != null) {
+                        union.or(bits);
+                    }
+                }
+                unions.put(entry.getKey(), union);
+            }
+
+            BitSet visible = (BitSet) live.clone();
+            if (inStockOnly) {
+                visible.andNot(soldOut);
+            }
+
+            BitSet matched = (BitSet) visible.clone();
+            unions.values().forEach(matched::and);
+
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            for (Facet facet : Facet.values()) {
+                BitSet base = (BitSet) visible.clone();
+                unions.forEach((other, union) -> {
+                    if (other != facet) {
+                        base.and(union);
+                    }
+                });
+                Map<String, Integer> valueCounts = new TreeMap<>();
+                postings.get(facet).forEach((value, bits) -> {
+                    int count = countAnd(base, bits);
+                    if (count > 0) {
+                        valueCounts.put(value, count);
+                    }
+                });
+                counts.put(facet.key(), valueCounts);
+            }
+
+            List<ProductListResponse> products = new ArrayList<>(matched.cardinality());
+            for (int slot = matched.nextSetBit(0); slot >= 0; slot = matched.nextSetBit(slot + 1)) {
+                products.add(productBySlot.get(slot));
+            }
+            products.sort(Comparator.comparing(ProductListResponse::getProductId));
+
+            return new Result(products, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void upsertLocked(Product product) {
+        Integer slot = slotByProductId.get(product.getProductId());
+        if (slot != null) {
+            unindex(slot);
+        } else {
+            slot = freeSlots.isEmpty() ? productBySlot.size() : freeSlots.pop();
+            if (slot == productBySlot.size()) {
+                productBySlot.add(null);
+                valuesBySlot.add(null);
+            }
+            slotByProductId.put(product.getProductId(), slot);
+        }
+
+        String[] values = new String[Facet.values().length];
+        values[Facet.CONTINENT.ordinal()] = product.getContinent();
+        values[Facet.NATIONALITY.ordinal()] = product.getNationality();
+        values[Facet.TYPE.ordinal()] = product.getType();
+        values[Facet.PRICE_BAND.ordinal()] = priceBandOf(product.getBasePrice());
+
+        for (Facet facet : Facet.values()) {
+            String value = values[facet.ordinal()];
+            if (value != null) {
+                postings.get(facet).computeIfAbsent(value, v -> new BitSet()).set(slot);
+            }
+        }
+        ProductListResponse listed = ProductListResponse.from(product);
+        productBySlot.set(slot, soldOut.get(slot) ? listed.toBuilder().inStock(false).build() : listed);
+        valuesBySlot.set(slot, values);
+        live.set(slot);
+    }
+
+    private void unindex(int slot) {
+        String[] values = valuesBySlot.get(slot);
+        if (values == null) {
+            return;
+        }
+        for (Facet facet : Facet.values()) {
+            String value = values[facet.ordinal()];
+            if (value == null) {
+                continue;
+            }
+            Map<String, BitSet> byValue = postings.get(facet);
+            BitSet bits = byValue.get(value);
+            if (bits != null) {
+                bits.clear(slot);
+                if (bits.isEmpty()) {
+                    byValue.remove(value);
+                }
+            }
+        }
+    }
+
+    private static int countAnd(BitSet a, BitSet b) {
+        BitSet copy = (BitSet) a.clone();
+        copy.and(b);
+        return copy.cardinality();
+    }
+
+    public record Result(List<ProductListResponse> products, Map<String, Map<String, Integer>> facetCounts) {
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.coffee.service;
+
+import java.util.List;
+
+import org.example.coffee.entity.Product;
+
+/**
+ * 상품 카탈로그 위에 유지되는 인메모리 인덱스
+ * 기동 시 전체 재구성, 이후 상품 변경마다 증분 갱신된다. (ProductIndexUpdater)
+ */
+public interface ProductIndex {
+
+    void rebuild(List<Product> products);
+
+    void upsert(Product product);
+
+    void remove(Long productId);
+}
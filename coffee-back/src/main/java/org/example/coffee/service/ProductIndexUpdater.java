@@ -0,0 +1,52 @@
+package org.example.coffee.service;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import org.example.coffee.entity.Product;
+import org.example.coffee.event.ProductChangedEvent;
+import org.example.coffee.repository.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductIndexUpdater {
+
+    private final ProductRepository productRepository;
+    private final List<ProductIndex> indexes;
+
+    // 기동 시 상품 전체를 한 번 읽어 모든 인덱스 구성
+    // (인덱스 위에 얹는 ProductAvailability보다 먼저)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void rebuildAll() {
+        List<Product> products = productRepository.findAll();
+        for (ProductIndex index : indexes) {
+            index.rebuild(products);
+        }
+        log.info("product indexes rebuilt: products={} indexes={}", products.size(), indexes.size());
+    }
+
+    // 상품 변경 커밋 후 증분 갱신
+    // (CatalogVersion이 버전을 올리기 전에 인덱스부터 바꿔야 새 ETag로 예전 결과가 나가지 않는다)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onProductChanged(ProductChangedEvent event) {
+        for (ProductIndex index : indexes) {
+            if (event.removed()) {
+                index.remove(event.productId());
+            } else {
+                index.upsert(event.product());
+            }
+        }
+    }
+}
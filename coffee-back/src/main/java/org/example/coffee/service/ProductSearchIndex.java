@@ -0,0 +1,243 @@
+package org.example.coffee.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+import org.springframework.stereotype.Component;
+
+import org.example.coffee.dto.ProductListResponse;
+import org.example.coffee.entity.Product;
+
+/**
+ * 상품 검색용 n-gram 역색인 (상품명, 원산지, 가공방식)
+ * 한글은 형태소 분석 없이도 부분 일치가 되도록 글자 2-gram으로 색인하고,
+ * 한 글자 검색을 위해 1-gram도 함께 색인한다.
+ */
+@Component
+public class ProductSearchIndex implements ProductIndex {
+
+    // 필드별 가중치 (비트 위치 = 필드)
+    private static final int NAME = 0;
+    private static final int NATIONALITY = 1;
+    private static final int TYPE = 2;
+    private static final int[] FIELD_WEIGHT = {3, 2, 1};
+
+    private static final int NAME_CONTAINS_BONUS = 5;
+    private static final int NAME_PREFIX_BONUS = 3;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // gram -> (productId -> 필드 비트마스크)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> gramsByProduct = new HashMap<>();
+    private final Map<Long, String> normalizedNames = new HashMap<>();
+    private final Map<Long, ProductListResponse> products = new HashMap<>();
+
+    @Override
+    public void rebuild(List<Product> all) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            gramsByProduct.clear();
+            normalizedNames.clear();
+            products.clear();
+            all.forEach(this::upsertLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(Product product) {
+        lock.writeLock().lock();
+        try {
+            upsertLocked(product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 공백으로 나뉜 검색어 토큰이 모두 (어느 필드에서든) 일치하는 상품을 점수순으로 반환한다.
+     * include가 false인 상품은 제외한다. (품절 제외 등)
+     */
+    public List<ProductListResponse> search(String query, int limit, LongPredicate include) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = null;
+            for (String token : tokens) {
+                Map<Long, Integer> tokenScores = scoreToken(token);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((productId, score) -> score + tokenScores.get(productId));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            String whole = String.join("", tokens);
+            List<long[]> ranked = new ArrayList<>(scores.size());
+            scores.forEach((productId, score) -> {
+                if (!include.test(productId)) {
+                    return;
+                }
+                String name = normalizedNames.get(productId);
+                int bonus = 0;
+                if (name.startsWith(whole)) {
+                    bonus += NAME_PREFIX_BONUS + NAME_CONTAINS_BONUS;
+                } else if (name.contains(whole)) {
+                    bonus += NAME_CONTAINS_BONUS;
+                }
+                ranked.add(new long[]{productId, score + bonus});
+            });
+            ranked.sort(Comparator.<long[]>comparingLong(e -> -e[1]).thenComparingLong(e -> -e[0]));
+
+            return ranked.stream()
+                    .limit(limit)
+                    .map(e -> products.get(e[0]))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 토큰의 모든 gram이 일치한 상품만 남기고, 일치한 필드 가중치를 합산
+    private Map<Long, Integer> scoreToken(String token) {
+        Map<Long, Integer> scores = null;
+        for (String gram : grams(token)) {
+            Map<Long, Integer> posting = postings.get(gram);
+            if (posting == null) {
+                return new HashMap<>();
+            }
+            if (scores == null) {
+                scores = new HashMap<>();
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    scores.put(entry.getKey(), weightOf(entry.getValue()));
+                }
+            } else {
+                scores.keySet().retainAll(posting.keySet());
+                scores.replaceAll((productId, score) -> score + weightOf(posting.get(productId)));
+            }
+        }
+        return scores != null ? scores : new HashMap<>();
+    }
+
+    private void upsertLocked(Product product) {
+        Long productId = product.getProductId();
+        removeLocked(productId);
+
+        Set<String> indexed = new LinkedHashSet<>();
+        indexField(productId, product.getProductName(), NAME, indexed);
+        indexField(productId, product.getNationality(), NATIONALITY, indexed);
+        indexField(productId, product.getType(), TYPE, indexed);
+
+        gramsByProduct.put(productId, indexed);
+        normalizedNames.put(productId, normalize(product.getProductName()));
+        products.put(productId, ProductListResponse.from(product));
+    }
+
+    private void removeLocked(Long productId) {
+        Set<String> indexed = gramsByProduct.remove(productId);
+        if (indexed != null) {
+            for (String gram : indexed) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting != null) {
+                    posting.remove(productId);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+        normalizedNames.remove(productId);
+        products.remove(productId);
+    }
+
+    private void indexField(Long productId, String text, int field, Set<String> indexed) {
+        for (String token : tokenize(text)) {
+            Set<String> grams = new LinkedHashSet<>(grams(token));
+            // 한 글자 검색용 1-gram
+            for (int i = 0; i < token.length(); i++) {
+                grams.add(token.substring(i, i + 1));
+            }
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, g -> new HashMap<>())
+                        .merge(productId, 1 << field, (a, b) -> a | b);
+                indexed.add(gram);
+            }
+        }
+    }
+
+    private static int weightOf(int fieldMask) {
+        int best = 0;
+        for (int field = 0; field < FIELD_WEIGHT.length; field++) {
+            if ((fieldMask & (1 << field)) != 0) {
+                best = Math.max(best, FIELD_WEIGHT[field]);
+            }
+        }
+        return best;
+    }
+
+    // 한 글자면 1-gram, 그 외에는 2-gram
+    static List<String> grams(String token) {
+        if (token.length() == 1) {
+            return List.of(token);
+        }
+        List<String> grams = new ArrayList<>(token.length() - 1);
+        for (int i = 0; i + 2 <= token.length(); i++) {
+            grams.add(token.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String raw : text.trim().split("\\s+")) {
+            String token = normalize(raw);
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // 소문자화 + 문자/숫자 외 제거
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        text.toLowerCase().codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+}
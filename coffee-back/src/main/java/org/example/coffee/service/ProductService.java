@@ -1,18 +1,36 @@
 package org.example.coffee.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import org.example.coffee.config.CacheConfig;
+import org.example.coffee.dto.CursorPageResponse;
 import org.example.coffee.dto.ProductDetailResponse;
+import org.example.coffee.dto.ProductFacetResponse;
 import org.example.coffee.dto.ProductListResponse;
+import org.example.coffee.dto.ProductPageResponse;
+import org.example.coffee.dto.ProductSuggestionResponse;
 import org.example.coffee.entity.Product;
 import org.example.coffee.entity.ProductImage;
 import org.example.coffee.entity.ProductOption;
-import org.example.coffee.repository.ProductRepository;
-import org.example.coffee.repository.ProductOptionRepository;
 import org.example.coffee.repository.ProductImageRepository;
+import org.example.coffee.repository.ProductOptionRepository;
+import org.example.coffee.repository.ProductRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,10 +38,20 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProductService {
 
+    public static final int BATCH_MAX_SIZE = 50;
+
     private final ProductRepository productRepository;
     private final ProductOptionRepository productOptionRepository;
     private final ProductImageRepository productImageRepository;
+    private final ProductFacetIndex productFacetIndex;
+    private final BestSellerRanking bestSellerRanking;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductAutocomplete productAutocomplete;
+    private final ProductViewCounter productViewCounter;
+    private final ProductAvailability productAvailability;
+    private final Executor queryExecutor;
 
+    @Cacheable(CacheConfig.LATEST_PRODUCTS)
     public List<ProductListResponse> getLatestProducts() {
         return productRepository.findTop10ByOrderByProductIdDesc()
                 .stream()
@@ -31,33 +59,106 @@ public class ProductService {
                 .collect(Collectors.toList());
     }
 
-    public List<ProductListResponse> getBestProducts() {
-        return productRepository.findTop10ByOrderByProductIdAsc()
-                .stream()
-                .map(this::toListResponse)
-                .collect(Collectors.toList());
+    // 최근 판매량 기준 상위 상품 (판매 이력이 부족하면 등록순으로 채움)
+    @Cacheable(CacheConfig.BEST_PRODUCTS)
+    public List<ProductListResponse> getBestProducts(int days) {
+        List<ProductListResponse> result = new ArrayList<>(BestSellerRanking.TOP_SIZE);
+        Set<Long> added = new HashSet<>();
+
+        for (Long productId : bestSellerRanking.topProductIds(days)) {
+            ProductListResponse product = productFacetIndex.get(productId);
+            if (product != null && added.add(productId)) {
+                result.add(product);
+            }
+        }
+
+        if (result.size() < BestSellerRanking.TOP_SIZE) {
+            for (Product product : productRepository.findTop10ByOrderByProductIdAsc()) {
+                if (result.size() >= BestSellerRanking.TOP_SIZE) {
+                    break;
+                }
+                if (added.add(product.getProductId())) {
+                    result.add(toListResponse(product));
+                }
+            }
+        }
+        return result;
     }
 
     private ProductListResponse toListResponse(Product product) {
-        return ProductListResponse.builder()
-                .productId(product.getProductId())
-                .productName(product.getProductName())
-                .basePrice(product.getBasePrice())
-                .continent(product.getContinent())
-                .nationality(product.getNationality())
-                .type(product.getType())
-                .thumbnailImg(product.getThumbnailImg())
-                .build();
+        return productAvailability.apply(ProductListResponse.from(product));
     }
 
     public ProductDetailResponse getProductDetailWithOptions(Long productId) {
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findWithOptionsAndImagesById(productId)
                 .orElseThrow(() -> new RuntimeException("상품이 존재하지 않습니다."));
+        productViewCounter.increment(productId);
+        return toDetailResponse(product, product.getOptions(), product.getImages());
+    }
+
+    // 상품 상세 화면 (상품 그래프 조회와 통계 조회를 병렬로 실행, DB 왕복 2회)
+    public ProductPageResponse getProductPage(Long productId) {
+        CompletableFuture<ProductRepository.PageStats> statsFuture = CompletableFuture.supplyAsync(
+                () -> productRepository.findPageStats(productId).orElse(null), queryExecutor);
+
+        ProductDetailResponse detail = getProductDetailWithOptions(productId);
+        ProductRepository.PageStats stats = statsFuture.join();
 
-        List<ProductOption> options = productOptionRepository.findByProduct_ProductId(productId);
-        List<ProductImage> images = productImageRepository.findByProduct_ProductIdOrderBySortOrderAsc(productId);
+        return ProductPageResponse.builder()
+                .product(detail)
+                .averageRating(stats != null && stats.getAverageRating() != null ? stats.getAverageRating() : 0.0)
+                .reviewCount(stats != null && stats.getReviewCount() != null ? stats.getReviewCount() : 0L)
+                .inquiryCount(stats != null && stats.getInquiryCount() != null ? stats.getInquiryCount() : 0L)
+                .build();
+    }
+
+    /**
+     * 여러 상품 한 번에 조회 - 목록형 (입력 순서 유지, 없는 ID는 제외)
+     * 인메모리 인덱스에서 만들므로 DB 조회가 없다.
+     */
+    public List<ProductListResponse> getProductsByIds(List<Long> productIds) {
+        return batchIds(productIds).stream()
+                .map(productFacetIndex::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
+    /**
+     * 여러 상품 한 번에 조회 - 상세형 (입력 순서 유지, 없는 ID는 제외)
+     * 상품/옵션/이미지 IN 조회 3회로 만든다.
+     */
+    public List<ProductDetailResponse> getProductDetailsByIds(List<Long> productIds) {
+        List<Long> ids = batchIds(productIds);
+
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getProductId, product -> product));
+        Map<Long, List<ProductOption>> options = productOptionRepository.findByProduct_ProductIdIn(ids).stream()
+                .collect(Collectors.groupingBy(option -> option.getProduct().getProductId()));
+        Map<Long, List<ProductImage>> images = productImageRepository.findByProduct_ProductIdInOrderBySortOrderAsc(ids).stream()
+                .collect(Collectors.groupingBy(image -> image.getProduct().getProductId()));
+
+        return ids.stream()
+                .filter(products::containsKey)
+                .map(id -> toDetailResponse(products.get(id),
+                        options.getOrDefault(id, List.of()),
+                        images.getOrDefault(id, List.of())))
+                .toList();
+    }
+
+    // 중복 제거 후 최대 개수 확인
+    private List<Long> batchIds(List<Long> productIds) {
+        List<Long> ids = productIds.stream().distinct().toList();
+        if (ids.size() > BATCH_MAX_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 상품은 최대 " + BATCH_MAX_SIZE + "개입니다.");
+        }
+        return ids;
+    }
+
+    private ProductDetailResponse toDetailResponse(Product product,
+                                                   Collection<ProductOption> options,
+                                                   Collection<ProductImage> images) {
         List<ProductDetailResponse.OptionDto> optionDtos = options.stream()
+                .sorted(Comparator.comparing(ProductOption::getOptionId))
                 .map(opt -> ProductDetailResponse.OptionDto.builder()
                         .optionId(opt.getOptionId())
                         .optionValue(opt.getOptionValue())
@@ -66,6 +167,8 @@ public class ProductService {
                 .collect(Collectors.toList());
 
         List<ProductDetailResponse.ImageDto> imageDtos = images.stream()
+                .sorted(Comparator.comparing(ProductImage::getSortOrder,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
                 .map(img -> ProductDetailResponse.ImageDto.builder()
                         .imageId(img.getImageId())
                         .imageUrl(img.getImageUrl())
@@ -87,24 +190,108 @@ public class ProductService {
                 .build();
     }
 
-    public List<ProductListResponse> getProductsByNationality(String nationality) {
-        return productRepository.findByNationality(nationality)
-                .stream()
-                .map(this::toListResponse)
-                .collect(Collectors.toList());
+    @Cacheable(CacheConfig.PRODUCTS_BY_NATIONALITY)
+    public CursorPageResponse<ProductListResponse> getProductsByNationality(String nationality, String cursor,
+                                                                         int size, boolean inStockOnly) {
+        return keysetPage((afterId, limit) -> productRepository
+                        .findByNationalityAndProductIdGreaterThanOrderByProductIdAsc(nationality, afterId, limit),
+                cursor, size, inStockOnly);
     }
 
-    public List<ProductListResponse> getProductsByType(String type) {
-        return productRepository.findByType(type)
-                .stream()
-                .map(this::toListResponse)
-                .collect(Collectors.toList());
+    @Cacheable(CacheConfig.PRODUCTS_BY_TYPE)
+    public CursorPageResponse<ProductListResponse> getProductsByType(String type, String cursor,
+                                                                  int size, boolean inStockOnly) {
+        return keysetPage((afterId, limit) -> productRepository
+                        .findByTypeAndProductIdGreaterThanOrderByProductIdAsc(type, afterId, limit),
+                cursor, size, inStockOnly);
+    }
+
+    @Cacheable(CacheConfig.PRODUCTS_BY_CONTINENT)
+    public CursorPageResponse<ProductListResponse> getProductsByContinent(String continent, String cursor,
+                                                                       int size, boolean inStockOnly) {
+        return keysetPage((afterId, limit) -> productRepository
+                        .findByContinentAndProductIdGreaterThanOrderByProductIdAsc(continent, afterId, limit),
+                cursor, size, inStockOnly);
     }
 
-    public List<ProductListResponse> getProductsByContinent(String continent) {
-        return productRepository.findByContinent(continent)
+    // 품절 제외 시 걸러진 만큼 다음 구간을 이어서 읽는다 (상품마다 추가 조회 없음)
+    private CursorPageResponse<ProductListResponse> keysetPage(BiFunction<Long, Limit, List<Product>> query,
+                                                               String cursor, int size, boolean inStockOnly) {
+        int pageSize = CursorCodec.pageSize(size);
+        long afterId = CursorCodec.decodeId(cursor);
+        List<Product> rows = new ArrayList<>(pageSize + 1);
+        while (true) {
+            List<Product> chunk = query.apply(afterId, Limit.of(pageSize + 1));
+            for (Product product : chunk) {
+                if (rows.size() > pageSize) {
+                    break;
+                }
+                if (!inStockOnly || productAvailability.isInStock(product.getProductId())) {
+                    rows.add(product);
+                }
+            }
+            if (rows.size() > pageSize || chunk.size() <= pageSize) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).getProductId();
+        }
+        return toPage(rows, pageSize);
+    }
+
+    private CursorPageResponse<ProductListResponse> toPage(List<Product> rows, int pageSize) {
+        return CursorCodec.page(rows, pageSize, this::toListResponse,
+                product -> CursorCodec.encodeId(product.getProductId()));
+    }
+
+    // 상품명/원산지/가공방식 검색 (인메모리 n-gram 색인, DB 조회 없음)
+    public List<ProductListResponse> searchProducts(String query, int limit, boolean inStockOnly) {
+        return productSearchIndex.search(query, CursorCodec.pageSize(limit),
+                        productId -> !inStockOnly || productAvailability.isInStock(productId))
                 .stream()
-                .map(this::toListResponse)
-                .collect(Collectors.toList());
+                .map(productAvailability::apply)
+                .toList();
+    }
+
+    // 검색어 자동완성 (접두어, 인기순)
+    public List<ProductSuggestionResponse> autocomplete(String prefix, int limit) {
+        return productAutocomplete.suggest(prefix, limit);
+    }
+
+    // 복합 패싯 필터 (인메모리 인덱스, DB 조회 없음)
+    public ProductFacetResponse filterProducts(List<String> continents, List<String> nationalities,
+                                               List<String> types, List<String> priceBands,
+                                               boolean inStockOnly, String cursor, int size) {
+        Map<ProductFacetIndex.Facet, Set<String>> filters = new EnumMap<>(ProductFacetIndex.Facet.class);
+        putFilter(filters, ProductFacetIndex.Facet.CONTINENT, continents);
+        putFilter(filters, ProductFacetIndex.Facet.NATIONALITY, nationalities);
+        putFilter(filters, ProductFacetIndex.Facet.TYPE, types);
+        putFilter(filters, ProductFacetIndex.Facet.PRICE_BAND, priceBands);
+
+        ProductFacetIndex.Result result = productFacetIndex.search(filters, inStockOnly);
+
+        // 결과는 productId 오름차순이므로 커서 이후부터 잘라낸다
+        int pageSize = CursorCodec.pageSize(size);
+        long afterId = CursorCodec.decodeId(cursor);
+        List<ProductListResponse> rows = result.products().stream()
+                .filter(product -> product.getProductId() > afterId)
+                .limit(pageSize + 1L)
+                .toList();
+        CursorPageResponse<ProductListResponse> page = CursorCodec.page(rows, pageSize, product -> product,
+                product -> CursorCodec.encodeId(product.getProductId()));
+
+        return ProductFacetResponse.builder()
+                .total(result.products().size())
+                .products(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.isHasNext())
+                .facets(result.facetCounts())
+                .build();
+    }
+
+    private void putFilter(Map<ProductFacetIndex.Facet, Set<String>> filters,
+                           ProductFacetIndex.Facet facet, List<String> values) {
+        if (values != null && !values.isEmpty()) {
+            filters.put(facet, new HashSet<>(values));
+        }
     }
 }
@@ -0,0 +1,25 @@
+package org.example.coffee.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+// 상품 상세 조회수 (프로세스 메모리, 자동완성 인기도 가중치용)
+@Component
+public class ProductViewCounter {
+
+    private final Map<Long, LongAdder> views = new ConcurrentHashMap<>();
+
+    public void increment(Long productId) {
+        views.computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    public Map<Long, Long> snapshot() {
+        Map<Long, Long> result = new HashMap<>();
+        views.forEach((productId, count) -> result.put(productId, count.sum()));
+        return result;
+    }
+}
@@ -4,14 +4,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import org.example.coffee.dto.CursorPageResponse;
 import org.example.coffee.dto.ReviewRequest;
 import org.example.coffee.dto.ReviewResponse;
 import org.example.coffee.entity.Product;
 import org.example.coffee.entity.Review;
 import org.example.coffee.entity.User;
+import org.example.coffee.event.CatalogChangedEvent;
 import org.example.coffee.repository.ProductRepository;
 import org.example.coffee.repository.ReviewRepository;
 import org.example.coffee.repository.UserRepository;
@@ -26,6 +30,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 상품별 리뷰 조회
     public List<ReviewResponse> getReviewsByProductId(Long productId) {
@@ -35,12 +40,18 @@ public class ReviewService {
                 .collect(Collectors.toList());
     }
 
-    // 사용자별 리뷰 조회
-    public List<ReviewResponse> getReviewsByUserId(Long userId) {
-        List<Review> reviews = reviewRepository.findByUser_UserIdOrderByCreatedAtDesc(userId);
-        return reviews.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    // 사용자별 리뷰 조회 (최신순 커서 페이지)
+    public CursorPageResponse<ReviewResponse> getReviewsByUserId(Long userId, String cursor, int size) {
+        int pageSize = CursorCodec.pageSize(size);
+        CursorCodec.TimeId after = CursorCodec.decodeTimeId(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Review> reviews = after == null
+                ? reviewRepository.findPageByUserId(userId, limit)
+                : reviewRepository.findPageByUserIdAfter(userId, after.createdAt(), after.id(), limit);
+
+        return CursorCodec.page(reviews, pageSize, this::toResponse,
+                review -> CursorCodec.encodeTimeId(review.getCreatedAt(), review.getReviewId()));
     }
 
     // 상품 리뷰 통계
@@ -75,6 +86,7 @@ public class ReviewService {
                 .build();
 
         Review saved = reviewRepository.save(review);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Section.REVIEW));
         return toResponse(saved);
     }
 
@@ -94,6 +106,7 @@ public class ReviewService {
 
         review.setRating(request.getRating());
         review.setContent(request.getContent());
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Section.REVIEW));
 
         return toResponse(review);
     }
@@ -109,6 +122,7 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Section.REVIEW));
     }
 
     private ReviewResponse toResponse(Review review) {
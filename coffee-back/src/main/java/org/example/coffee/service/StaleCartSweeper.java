@@ -0,0 +1,107 @@
+package org.example.coffee.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import org.example.coffee.config.JdbcTimestamps;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오래된 장바구니 정리
+ * 마지막으로 담거나 수량을 바꾼 지 app.cart.expiry-days 가 지난 cart_item 을 지운다.
+ * 시작 시점의 PK 범위를 chunk-size 폭으로 잘라 구간마다 DELETE 한 번씩 (구간마다 자동 커밋) 실행하므로
+ * 잠금과 언두 로그는 한 구간 크기로 제한되고, 그 사이 새로 담긴 행은 건드리지 않는다.
+ */
+@Slf4j
+@Component
+public class StaleCartSweeper {
+
+    private static final String ID_RANGE_SQL = "SELECT MIN(cart_item_id) AS min_id, MAX(cart_item_id) AS max_id FROM cart_item";
+
+    // updated_at 이 없는 예전 행은 created_at 기준
+    private static final String DELETE_CHUNK_SQL =
+            "DELETE FROM cart_item WHERE cart_item_id >= ? AND cart_item_id < ? " +
+            "AND COALESCE(updated_at, created_at) < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTimestamps jdbcTimestamps;
+    private final int expiryDays;
+    private final int chunkSize;
+
+    private final AtomicLong totalPurged = new AtomicLong();
+    private volatile int lastPurged;
+    private volatile long lastElapsedMillis;
+
+    public StaleCartSweeper(JdbcTemplate jdbcTemplate, JdbcTimestamps jdbcTimestamps,
+                            @Value("${app.cart.expiry-days}") int expiryDays,
+                            @Value("${app.cart.sweep-chunk-size}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcTimestamps = jdbcTimestamps;
+        this.expiryDays = expiryDays;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cart.sweep-interval-ms}", initialDelayString = "${app.cart.sweep-interval-ms}")
+    public void scheduledSweep() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            log.error("stale cart sweep failed", e);
+        }
+    }
+
+    // 한 번 정리하고 지운 행 수를 반환
+    public int sweep() {
+        long started = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(expiryDays);
+
+        Map<String, Object> range = jdbcTemplate.queryForMap(ID_RANGE_SQL);
+        Number minId = (Number) range.get("min_id");
+        Number maxId = (Number) range.get("max_id");
+
+        int purged = 0;
+        int chunks = 0;
+        if (minId != null && maxId != null) {
+            long last = maxId.longValue();
+            for (long from = minId.longValue(); from <= last; from += chunkSize) {
+                long to = Math.min(from + chunkSize, last + 1);
+                long start = from;
+                purged += jdbcTemplate.update(DELETE_CHUNK_SQL, ps -> {
+                    ps.setLong(1, start);
+                    ps.setLong(2, to);
+                    jdbcTimestamps.set(ps, 3, cutoff);
+                });
+                chunks++;
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        totalPurged.addAndGet(purged);
+        lastPurged = purged;
+        lastElapsedMillis = elapsedMillis;
+        if (purged > 0) {
+            log.info("stale carts purged: rows={}, chunks={}, elapsedMs={}, totalRows={}",
+                    purged, chunks, elapsedMillis, totalPurged.get());
+        }
+        return purged;
+    }
+
+    public long totalPurged() {
+        return totalPurged.get();
+    }
+
+    public int lastPurged() {
+        return lastPurged;
+    }
+
+    public long lastElapsedMillis() {
+        return lastElapsedMillis;
+    }
+}
@@ -0,0 +1,284 @@
+package org.example.coffee.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.example.coffee.event.OrderPlacedEvent;
+import org.example.coffee.event.StockChangedEvent;
+import org.example.coffee.repository.OrderItemRepository;
+import org.example.coffee.repository.OrdersRepository;
+import org.example.coffee.repository.ProductVariantRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인메모리 재고 모드 (app.inventory.mode=memory, 한정 수량 판매용)
+ * 재고 판정은 재고 행마다 둔 StripedStockCounter에서 DB 왕복 없이 끝내고,
+ * 커밋된 주문의 차감 수량은 주기적으로 모아서 product_variant에 반영한다. (write-behind)
+ *
+ * 주문은 stock_synced=false로 저장되고, 반영과 같은 트랜잭션에서 true로 바뀐다.
+ * 반영 전에 서버가 내려가도 기동 시 stock_synced=false 주문의 수량을 먼저 DB에 반영한 뒤
+ * 카운터를 읽어 오므로 재고가 되살아나지 않는다.
+ * 재고를 메모리가 소유하므로 서버 한 대에서만 사용한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.inventory.mode", havingValue = "memory")
+public class StripedInventoryService implements InventoryService {
+
+    private final ProductVariantRepository productVariantRepository;
+    private final OrdersRepository ordersRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int stripes;
+
+    private final Map<VariantKey, StripedStockCounter> counters = new ConcurrentHashMap<>();
+    // 재고 행이 없다고 확인한 옵션 (주문마다 DB를 다시 보지 않도록 기억, 주기적으로 비움)
+    private final Set<VariantKey> untracked = ConcurrentHashMap.newKeySet();
+    // 커밋되었지만 아직 DB에 반영되지 않은 주문
+    private final ConcurrentLinkedQueue<OrderPlacedEvent> pending = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean ready = false;
+
+    public StripedInventoryService(ProductVariantRepository productVariantRepository,
+                                   OrdersRepository ordersRepository,
+                                   OrderItemRepository orderItemRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${app.inventory.stripes}") int stripes) {
+        this.productVariantRepository = productVariantRepository;
+        this.ordersRepository = ordersRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.stripes = stripes;
+    }
+
+    // 기동 시: 반영되지 않은 주문 수량을 DB에 먼저 적용하고 카운터를 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        int recovered = transactionTemplate.execute(status -> {
+            List<Object[]> rows = orderItemRepository.sumUnsyncedQuantityByVariant();
+            for (Object[] row : rows) {
+                productVariantRepository.addStock((Long) row[0], (Long) row[1], -((Number) row[2]).intValue());
+            }
+            ordersRepository.markAllStockSynced();
+            return rows.size();
+        });
+
+        counters.clear();
+        untracked.clear();
+        List<Object[]> stocks = productVariantRepository.findAllStock();
+        for (Object[] row : stocks) {
+            VariantKey key = new VariantKey((Long) row[0], (Long) row[1]);
+            counters.put(key, new StripedStockCounter(Math.max((Integer) row[2], 0), stripes));
+        }
+        ready = true;
+        log.info("in-memory inventory loaded: variants={}, recovered={}", stocks.size(), recovered);
+    }
+
+    @Override
+    public void reserve(List<Line> lines) {
+        if (!ready) {
+            throw new IllegalStateException("재고 정보를 불러오는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        List<Taken> taken = new ArrayList<>(lines.size());
+        List<StockChangedEvent.Delta> deltas = new ArrayList<>(lines.size());
+        for (Line line : lines) {
+            StripedStockCounter counter = counterOf(line.productId(), line.optionId());
+            if (counter == null) {
+                continue; // 재고 행이 없는 옵션은 재고 관리 대상이 아님
+            }
+            if (!counter.tryTake(line.quantity())) {
+                taken.forEach(Taken::giveBack);
+                throw new IllegalArgumentException("재고가 부족합니다. (상품 " + line.productId()
+                        + ", 옵션 " + line.optionId() + ")");
+            }
+            taken.add(new Taken(counter, line.quantity()));
+            deltas.add(new StockChangedEvent.Delta(line.productId(), line.optionId(), -line.quantity()));
+        }
+
+        // 주문 트랜잭션이 롤백되면 가져간 수량을 되돌린다
+        // 이벤트보다 먼저 등록해서, 품절 비트맵이 이 증감을 진행 중으로 보는 동안 카운터가 먼저 돌아오게 한다
+        if (!taken.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        taken.forEach(Taken::giveBack);
+                    }
+                }
+            });
+        }
+        if (!deltas.isEmpty()) {
+            eventPublisher.publishEvent(new StockChangedEvent(deltas));
+        }
+    }
+
+    /**
+     * 취소는 드물어서 DB에는 바로 더한다.
+     * 아직 반영되지 않은 주문이라도 이후 flush(또는 기동 시 복구)가 같은 수량을 빼므로 합계가 맞는다.
+     * 카운터는 취소가 커밋된 뒤에 되돌린다.
+     */
+    @Override
+    public void release(List<Line> lines) {
+        List<Taken> released = new ArrayList<>(lines.size());
+        List<StockChangedEvent.Delta> deltas = new ArrayList<>(lines.size());
+        for (Line line : lines) {
+            if (productVariantRepository.addStock(line.productId(), line.optionId(), line.quantity()) > 0) {
+                deltas.add(new StockChangedEvent.Delta(line.productId(), line.optionId(), line.quantity()));
+                StripedStockCounter counter = counters.get(new VariantKey(line.productId(), line.optionId()));
+                if (counter != null) {
+                    released.add(new Taken(counter, line.quantity()));
+                }
+            }
+        }
+
+        if (!deltas.isEmpty()) {
+            eventPublisher.publishEvent(new StockChangedEvent(deltas));
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            released.forEach(Taken::giveBack);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                released.forEach(Taken::giveBack);
+            }
+        });
+    }
+
+    @Override
+    public Map<Variant, Integer> available(Collection<Variant> variants) {
+        Map<Variant, Integer> stock = new HashMap<>();
+        for (Variant variant : variants) {
+            StripedStockCounter counter = counterOf(variant.productId(), variant.optionId());
+            if (counter != null) {
+                stock.put(variant, counter.available());
+            }
+        }
+        return stock;
+    }
+
+    /**
+     * 카운터 기준 재고. DB 재고는 flush 전까지 커밋된 주문 수량만큼 많으므로 쓰지 않는다.
+     * 아직 카운터를 만들지 않은 재고 행만 DB 값을 쓴다. (처음 주문될 때 같은 값으로 카운터가 만들어짐)
+     */
+    @Override
+    public Map<Variant, Integer> stockSnapshot() {
+        Map<Variant, Integer> stock = new HashMap<>();
+        for (Object[] row : productVariantRepository.findAllStock()) {
+            VariantKey key = new VariantKey((Long) row[0], (Long) row[1]);
+            StripedStockCounter counter = counters.get(key);
+            stock.put(new Variant(key.productId(), key.optionId()),
+                    counter != null ? counter.available() : Math.max((Integer) row[2], 0));
+        }
+        return stock;
+    }
+
+    @Override
+    public boolean writeBehind() {
+        return true;
+    }
+
+    // 커밋된 주문만 반영 대상
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        pending.add(event);
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.flush-interval-ms}")
+    public void flush() {
+        List<OrderPlacedEvent> batch = new ArrayList<>();
+        OrderPlacedEvent event;
+        while ((event = pending.poll()) != null) {
+            batch.add(event);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<VariantKey, Integer> deltas = new HashMap<>();
+        List<Long> orderIds = new ArrayList<>(batch.size());
+        for (OrderPlacedEvent placed : batch) {
+            orderIds.add(placed.orderId());
+            for (OrderPlacedEvent.Line line : placed.lines()) {
+                deltas.merge(new VariantKey(line.productId(), line.optionId()), line.quantity(), Integer::sum);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                deltas.forEach((key, quantity) ->
+                        productVariantRepository.addStock(key.productId(), key.optionId(), -quantity));
+                ordersRepository.markStockSynced(orderIds);
+            });
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도 (주문은 stock_synced=false로 남아 있으므로 재기동해도 유실되지 않음)
+            pending.addAll(batch);
+            log.warn("inventory write-behind failed: orders={}", orderIds.size(), e);
+        }
+    }
+
+    // 재고 행은 DB에서 직접 추가되므로, 없다고 기억한 옵션을 주기적으로 비워 다음 주문 때 한 번 다시 확인한다
+    @Scheduled(fixedDelayString = "${app.inventory.untracked-refresh-interval-ms}",
+            initialDelayString = "${app.inventory.untracked-refresh-interval-ms}")
+    public void refreshUntracked() {
+        untracked.clear();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 기동 후 새로 등록된 재고 행은 처음 주문될 때 읽어 오고, 없으면 없다는 사실을 기억한다
+    private StripedStockCounter counterOf(Long productId, Long optionId) {
+        VariantKey key = new VariantKey(productId, optionId);
+        StripedStockCounter counter = counters.get(key);
+        if (counter != null || untracked.contains(key)) {
+            return counter;
+        }
+        counter = productVariantRepository.findByProduct_ProductIdAndOption_OptionId(productId, optionId)
+                .map(variant -> counters.computeIfAbsent(key,
+                        k -> new StripedStockCounter(Math.max(variant.getStock(), 0), stripes)))
+                .orElse(null);
+        if (counter == null) {
+            untracked.add(key);
+        }
+        return counter;
+    }
+
+    private record VariantKey(Long productId, Long optionId) {
+    }
+
+    private record Taken(StripedStockCounter counter, int quantity) {
+        void giveBack() {
+            counter.put(quantity);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.coffee.service;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 한 재고 행의 수량을 여러 스트라이프에 나눠 담은 카운터
+ * 스레드마다 다른 스트라이프에서 CAS로 차감하므로 한 값을 두고 경합하지 않는다.
+ * 스트라이프 하나로 부족하면 잠금을 잡고 여러 스트라이프에서 모아 차감하며,
+ * 어떤 경로든 0 아래로 내려가지 않는다.
+ */
+final class StripedStockCounter {
+
+    // 스트라이프끼리 같은 캐시 라인을 쓰지 않도록 간격을 둔다 (int 16개 = 64바이트)
+    private static final int PAD = 16;
+
+    private final AtomicIntegerArray cells;
+    private final int stripes;
+
+    StripedStockCounter(int stock, int stripes) {
+        this.stripes = stripes;
+        this.cells = new AtomicIntegerArray(stripes * PAD);
+        for (int i = 0; i < stripes; i++) {
+            cells.set(i * PAD, stock / stripes + (i < stock % stripes ? 1 : 0));
+        }
+    }
+
+    boolean tryTake(int quantity) {
+        int start = probe();
+        for (int i = 0; i < stripes; i++) {
+            if (tryTakeFrom((start + i) % stripes, quantity)) {
+                return true;
+            }
+        }
+        return takeAcross(quantity);
+    }
+
+    void put(int quantity) {
+        cells.addAndGet(probe() * PAD, quantity);
+    }
+
+    int available() {
+        int sum = 0;
+        for (int i = 0; i < stripes; i++) {
+            sum += cells.get(i * PAD);
+        }
+        return sum;
+    }
+
+    private boolean tryTakeFrom(int stripe, int quantity) {
+        int index = stripe * PAD;
+        while (true) {
+            int current = cells.get(index);
+            if (current < quantity) {
+                return false;
+            }
+            if (cells.compareAndSet(index, current, current - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    // 재고가 여러 스트라이프에 흩어진 경우: 모을 수 있는 만큼 가져오고, 모자라면 되돌린다
+    private synchronized boolean takeAcross(int quantity) {
+        int[] taken = new int[stripes];
+        int remaining = quantity;
+        for (int i = 0; i < stripes && remaining > 0; i++) {
+            int index = i * PAD;
+            while (true) {
+                int current = cells.get(index);
+                int take = Math.min(current, remaining);
+                if (take <= 0) {
+                    break;
+                }
+                if (cells.compareAndSet(index, current, current - take)) {
+                    taken[i] = take;
+                    remaining -= take;
+                    break;
+                }
+            }
+        }
+        if (remaining == 0) {
+            return true;
+        }
+        for (int i = 0; i < stripes; i++) {
+            if (taken[i] > 0) {
+                cells.addAndGet(i * PAD, taken[i]);
+            }
+        }
+        return false;
+    }
+
+    private int probe() {
+        int hash = Long.hashCode(Thread.currentThread().getId() * 0x9E3779B97F4A7C15L);
+        return Math.floorMod(hash, stripes);
+    }
+}
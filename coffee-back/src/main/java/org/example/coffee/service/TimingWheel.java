@@ -0,0 +1,138 @@
+package org.example.coffee.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 해시드 타이밍 휠 (long 키 전용)
+ * 등록은 큐에 넣기만 하는 O(1)이고, 작업 스레드가 틱마다 칸 하나만 훑는다.
+ * 휠 한 바퀴보다 먼 만료는 남은 바퀴 수(rounds)로 표시해 같은 칸에 둔다.
+ * 칸은 작업 스레드만 만지므로 잠금이 없고, 노드는 칸마다 단방향 연결 리스트로 이어 둔다.
+ */
+@Slf4j
+final class TimingWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Node[] buckets;
+    private final ConcurrentLinkedQueue<Node> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Consumer<List<Long>> handler;
+    private final Thread worker;
+
+    private volatile boolean running;
+    private long startMillis;
+    private long tick;
+
+    TimingWheel(String name, long tickMillis, int wheelSize, Consumer<List<Long>> handler) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new Node[wheelSize];
+        this.handler = handler;
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+    }
+
+    void start() {
+        startMillis = System.currentTimeMillis();
+        running = true;
+        worker.start();
+    }
+
+    void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    // 이미 지난 시각이면 다음 틱에 만료된다
+    void schedule(long key, long deadlineMillis) {
+        inbox.add(new Node(key, deadlineMillis));
+        size.incrementAndGet();
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    private void run() {
+        while (running) {
+            long tickEnd = startMillis + (tick + 1) * tickMillis;
+            long sleep = tickEnd - System.currentTimeMillis();
+            if (sleep > 0) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                continue;
+            }
+
+            transferInbox();
+            List<Long> expired = expireBucket((int) (tick & mask));
+            tick++;
+
+            if (!expired.isEmpty()) {
+                try {
+                    handler.accept(expired);
+                } catch (RuntimeException e) {
+                    log.error("timing wheel handler failed: keys={}", expired.size(), e);
+                }
+            }
+        }
+    }
+
+    private void transferInbox() {
+        Node node;
+        while ((node = inbox.poll()) != null) {
+            long due = Math.max((node.deadline - startMillis) / tickMillis, tick);
+            node.rounds = (due - tick) / buckets.length;
+            int index = (int) (due & mask);
+            node.next = buckets[index];
+            buckets[index] = node;
+        }
+    }
+
+    private List<Long> expireBucket(int index) {
+        List<Long> expired = new ArrayList<>();
+        Node prev = null;
+        Node node = buckets[index];
+        while (node != null) {
+            Node next = node.next;
+            if (node.rounds <= 0) {
+                expired.add(node.key);
+                if (prev == null) {
+                    buckets[index] = next;
+                } else {
+                    prev.next = next;
+                }
+                size.decrementAndGet();
+            } else {
+                node.rounds--;
+                prev = node;
+            }
+            node = next;
+        }
+        return expired;
+    }
+
+    private static final class Node {
+        final long key;
+        final long deadline;
+        long rounds;
+        Node next;
+
+        Node(long key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.example.coffee.dto.CartItemResponse;
+import org.example.coffee.dto.CartQuantityRequest;
+import org.example.coffee.dto.CartRequest;
+import org.example.coffee.support.SqlStatementCounter;
+import org.example.coffee.support.TestFixtures;
+
+@SpringBootTest
+@Import(SqlStatementCounter.Config.class)
+class CartServiceTest {
+
+    private static final long USER_ID = 8801L;
+    private static final long OTHER_USER_ID = 8802L;
+    private static final long PRODUCT_ID = 8811L;
+    private static final long OTHER_PRODUCT_ID = 8812L;
+    private static final long OPTION_BASE = 8820L;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        fixtures.user(USER_ID, 0);
+        fixtures.user(OTHER_USER_ID, 0);
+        fixtures.product(PRODUCT_ID, "장바구니 테스트 원두", 10000);
+        fixtures.product(OTHER_PRODUCT_ID, "다른 원두", 20000);
+        for (int i = 1; i <= 20; i++) {
+            fixtures.option(OPTION_BASE + i, PRODUCT_ID, "옵션" + i, 500);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void addToCartUpsertsInTwoStatements() {
+        cartService.addToCart(USER_ID, cartRequest(PRODUCT_ID, OPTION_BASE + 1, 2));
+
+        sqlStatementCounter.start();
+        CartItemResponse response = cartService.addToCart(USER_ID, cartRequest(PRODUCT_ID, OPTION_BASE + 1, 3));
+
+        assertThat(sqlStatementCounter.count())
+                .as("statements: %s", sqlStatementCounter.statements())
+                .isEqualTo(2);
+        assertThat(response.getQuantity()).isEqualTo(5);
+        assertThat(response.getTotalPrice()).isEqualTo(10500 * 5);
+        assertThat(response.getProductName()).isEqualTo("장바구니 테스트 원두");
+    }
+
+    @Test
+    void cartReadUsesOneQueryWhateverTheSize() {
+        cartService.addToCart(USER_ID, cartRequest(PRODUCT_ID, OPTION_BASE + 1, 1));
+        sqlStatementCounter.start();
+        assertThat(cartService.getCartItems(USER_ID)).hasSize(1);
+        int single = sqlStatementCounter.count();
+
+        for (int i = 2; i <= 20; i++) {
+            cartService.addToCart(USER_ID, cartRequest(PRODUCT_ID, OPTION_BASE + i, i));
+        }
+        sqlStatementCounter.start();
+        List<CartItemResponse> items = cartService.getCartItems(USER_ID);
+
+        assertThat(single).isEqualTo(1);
+        assertThat(sqlStatementCounter.count())
+                .as("statements: %s", sqlStatementCounter.statements())
+                .isEqualTo(single);
+        assertThat(items).hasSize(20);
+        assertThat(items).allSatisfy(item -> assertThat(item.getTotalPrice())
+                .isEqualTo((item.getBasePrice() + item.getExtraPrice()) * item.getQuantity()));
+    }
+
+    @Test
+    void concurrentAddsOfSameItemAreMerged() throws Exception {
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<CartItemResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return cartService.addToCart(USER_ID, cartRequest(PRODUCT_ID, OPTION_BASE + 1, 1));
+                }));
+            }
+            start.countDown();
+            for (Future<CartItemResponse> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT quantity FROM cart_item WHERE user_id = ?", Integer.class, USER_ID))
+                .isEqualTo(threads);
+    }
+
+    @Test
+    void optionOfAnotherProductIsRejected() {
+        assertThatThrownBy(() -> cartService.addToCart(USER_ID, cartRequest(OTHER_PRODUCT_ID, OPTION_BASE + 1, 1)))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cart_item WHERE user_id = ?", Integer.class, USER_ID))
+                .isZero();
+    }
+
+    @Test
+    void bulkAddMergesLinesInOneBatch() {
+        cartService.addToCart(USER_ID, cartRequest(PRODUCT_ID, OPTION_BASE + 1, 1));
+
+        sqlStatementCounter.start();
+        List<CartItemResponse> cart = cartService.addAll(USER_ID, List.of(
+                cartRequest(PRODUCT_ID, OPTION_BASE + 1, 2),
+                cartRequest(PRODUCT_ID, OPTION_BASE + 2, 1),
+                cartRequest(PRODUCT_ID, OPTION_BASE + 2, 4),
+                cartRequest(PRODUCT_ID, OPTION_BASE + 3, 1)));
+
+        // upsert 배치 한 번 + 장바구니 조회 한 번
+        assertThat(sqlStatementCounter.count())
+                .as("statements: %s", sqlStatementCounter.statements())
+                .isEqualTo(2);
+        assertThat(cart).extracting(CartItemResponse::getOptionId, CartItemResponse::getQuantity)
+                .containsExactlyInAnyOrder(
+                        tuple(OPTION_BASE + 1, 3), tuple(OPTION_BASE + 2, 5), tuple(OPTION_BASE + 3, 1));
+    }
+
+    @Test
+    void bulkAddRollsBackWhenAnyLineIsInvalid() {
+        assertThatThrownBy(() -> cartService.addAll(USER_ID, List.of(
+                cartRequest(PRODUCT_ID, OPTION_BASE + 1, 1),
+                cartRequest(OTHER_PRODUCT_ID, OPTION_BASE + 2, 1))))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cart_item WHERE user_id = ?", Integer.class, USER_ID))
+                .isZero();
+    }
+
+    @Test
+    void bulkUpdateOnlyTouchesOwnLines() {
+        List<CartItemResponse> mine = cartService.addAll(USER_ID, List.of(
+                cartRequest(PRODUCT_ID, OPTION_BASE + 1, 1),
+                cartRequest(PRODUCT_ID, OPTION_BASE + 2, 1)));
+        CartItemResponse others = cartService.addToCart(OTHER_USER_ID, cartRequest(PRODUCT_ID, OPTION_BASE + 1, 1));
+        Long first = mine.stream().filter(item -> item.getOptionId() == OPTION_BASE + 1).findFirst().orElseThrow().getCartItemId();
+        Long second = mine.stream().filter(item -> item.getOptionId() == OPTION_BASE + 2).findFirst().orElseThrow().getCartItemId();
+
+        List<CartItemResponse> cart = cartService.updateQuantities(USER_ID, List.of(
+                quantityRequest(first, 7), quantityRequest(second, 0), quantityRequest(others.getCartItemId(), 9)));
+
+        assertThat(cart).extracting(CartItemResponse::getCartItemId, CartItemResponse::getQuantity)
+                .containsExactly(tuple(first, 7));
+        assertThat(cartService.getCartItems(OTHER_USER_ID)).extracting(CartItemResponse::getQuantity)
+                .containsExactly(1);
+
+        cartService.removeAll(USER_ID, List.of(first, others.getCartItemId()));
+        assertThat(cartService.getCartItems(USER_ID)).isEmpty();
+        assertThat(cartService.getCartItems(OTHER_USER_ID)).hasSize(1);
+    }
+
+    @Test
+    void guestCartMergeSkipsStaleLines() {
+        cartService.addToCart(USER_ID, cartRequest(PRODUCT_ID, OPTION_BASE + 1, 2));
+
+        int merged = cartService.mergeGuestCart(USER_ID, List.of(
+                cartRequest(PRODUCT_ID, OPTION_BASE + 1, 1),
+                cartRequest(PRODUCT_ID, OPTION_BASE + 2, 0),
+                cartRequest(OTHER_PRODUCT_ID, OPTION_BASE + 3, 1),
+                cartRequest(PRODUCT_ID, 999999L, 1)));
+
+        assertThat(merged).isEqualTo(1);
+        assertThat(cartService.getCartItems(USER_ID)).extracting(CartItemResponse::getQuantity)
+                .containsExactly(3);
+    }
+
+    @Test
+    void oversizedQuantitiesAreRejectedOrCappedWithoutOverflow() {
+        assertThatThrownBy(() -> cartService.addAll(USER_ID, List.of(
+                cartRequest(PRODUCT_ID, OPTION_BASE + 1, Integer.MAX_VALUE),
+                cartRequest(PRODUCT_ID, OPTION_BASE + 1, Integer.MAX_VALUE))))
+                .hasMessageContaining(CartService.MAX_LINE_QUANTITY + "개까지");
+        assertThatThrownBy(() -> cartService.addAll(USER_ID, List.of(
+                cartRequest(PRODUCT_ID, OPTION_BASE + 1, 600),
+                cartRequest(PRODUCT_ID, OPTION_BASE + 1, 600))))
+                .hasMessageContaining(CartService.MAX_LINE_QUANTITY + "개까지");
+
+        int merged = cartService.mergeGuestCart(USER_ID, List.of(
+                cartRequest(PRODUCT_ID, OPTION_BASE + 1, Integer.MAX_VALUE),
+                cartRequest(PRODUCT_ID, OPTION_BASE + 2, 600),
+                cartRequest(PRODUCT_ID, OPTION_BASE + 2, 600)));
+
+        assertThat(merged).isEqualTo(1);
+        assertThat(cartService.getCartItems(USER_ID)).extracting(CartItemResponse::getOptionId, CartItemResponse::getQuantity)
+                .containsExactly(tuple(OPTION_BASE + 2, CartService.MAX_LINE_QUANTITY));
+    }
+
+    @Test
+    void addingToAnExistingLineStopsAtTheMaximum() {
+        CartItemResponse line = cartService.addToCart(USER_ID, cartRequest(PRODUCT_ID, OPTION_BASE + 1, 900));
+
+        assertThat(cartService.addToCart(USER_ID, cartRequest(PRODUCT_ID, OPTION_BASE + 1, 200)).getQuantity())
+                .isEqualTo(CartService.MAX_LINE_QUANTITY);
+
+        cartService.updateQuantities(USER_ID, List.of(quantityRequest(line.getCartItemId(), 900)));
+        assertThat(cartService.addAll(USER_ID, List.of(cartRequest(PRODUCT_ID, OPTION_BASE + 1, 600))))
+                .extracting(CartItemResponse::getQuantity)
+                .containsExactly(CartService.MAX_LINE_QUANTITY);
+
+        cartService.mergeGuestCart(USER_ID, List.of(cartRequest(PRODUCT_ID, OPTION_BASE + 1, 500)));
+        assertThat(cartService.getCartItems(USER_ID)).extracting(CartItemResponse::getQuantity)
+                .containsExactly(CartService.MAX_LINE_QUANTITY);
+
+        assertThatThrownBy(() -> cartService.updateQuantity(line.getCartItemId(), CartService.MAX_LINE_QUANTITY + 1))
+                .hasMessageContaining(CartService.MAX_LINE_QUANTITY + "개까지");
+    }
+
+    private CartQuantityRequest quantityRequest(Long cartItemId, int quantity) {
+        CartQuantityRequest request = new CartQuantityRequest();
+        request.setCartItemId(cartItemId);
+        request.setQuantity(quantity);
+        return request;
+    }
+
+    private CartRequest cartRequest(long productId, long optionId, int quantity) {
+        CartRequest request = new CartRequest();
+        request.setProductId(productId);
+        request.setOptionId(optionId);
+        request.setQuantity(quantity);
+        return request;
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.example.coffee.dto.CheckoutTicketResponse;
+import org.example.coffee.support.TestFixtures;
+
+@SpringBootTest
+class CheckoutQueueTest {
+
+    private static final long USER_BASE = 8600L;
+    private static final long ADDRESS_BASE = 8610L;
+    private static final long PRODUCT_ID = 8621L;
+    private static final long OPTION_ID = 8631L;
+    private static final int USERS = 3;
+
+    @Autowired
+    private CheckoutQueue checkoutQueue;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        fixtures.product(PRODUCT_ID, "큐 테스트 원두", 10000);
+        fixtures.option(OPTION_ID, PRODUCT_ID, "200g");
+        fixtures.variant(PRODUCT_ID, OPTION_ID, 100);
+        for (int i = 1; i <= USERS; i++) {
+            fixtures.user(USER_BASE + i, 0);
+            fixtures.address(ADDRESS_BASE + i, USER_BASE + i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void batchOfDifferentUsersCompletesTogether() {
+        fillCart(1);
+        fillCart(2);
+        CheckoutQueue.Ticket first = ticket("a", 1);
+        CheckoutQueue.Ticket second = ticket("b", 2);
+
+        checkoutQueue.process(List.of(first, second));
+
+        assertThat(first.toResponse().getStatus()).isEqualTo(CheckoutQueue.COMPLETED);
+        assertThat(second.toResponse().getStatus()).isEqualTo(CheckoutQueue.COMPLETED);
+        assertThat(stock()).isEqualTo(98);
+    }
+
+    @Test
+    void failingOrderDoesNotRollBackTheRestOfTheBatch() {
+        fillCart(1);
+        fillCart(3);
+        CheckoutQueue.Ticket first = ticket("a", 1);
+        CheckoutQueue.Ticket emptyCart = ticket("b", 2);
+        CheckoutQueue.Ticket third = ticket("c", 3);
+
+        checkoutQueue.process(List.of(first, emptyCart, third));
+
+        CheckoutTicketResponse failed = emptyCart.toResponse();
+        assertThat(failed.getStatus()).isEqualTo(CheckoutQueue.FAILED);
+        assertThat(failed.getMessage()).isEqualTo("장바구니가 비어있습니다.");
+        assertThat(first.toResponse().getStatus()).isEqualTo(CheckoutQueue.COMPLETED);
+        assertThat(third.toResponse().getStatus()).isEqualTo(CheckoutQueue.COMPLETED);
+        assertThat(stock()).isEqualTo(98);
+    }
+
+    @Test
+    void sameUserOrdersAreNotCombined() {
+        fillCart(1);
+        CheckoutQueue.Ticket first = ticket("a", 1);
+        CheckoutQueue.Ticket duplicate = ticket("b", 1);
+
+        checkoutQueue.process(List.of(first, duplicate));
+
+        // 두 번째 주문은 첫 주문이 비운 장바구니를 보고 실패, 첫 주문은 그대로 남는다
+        assertThat(first.toResponse().getStatus()).isEqualTo(CheckoutQueue.COMPLETED);
+        assertThat(duplicate.toResponse().getStatus()).isEqualTo(CheckoutQueue.FAILED);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE user_id = ?", Integer.class, USER_BASE + 1))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void stockShortOrderIsLeftOutOfTheBatch() {
+        jdbcTemplate.update("UPDATE product_variant SET stock = 2 WHERE option_id = ?", OPTION_ID);
+        fillCart(1);
+        fillCart(2);
+        fillCart(3);
+        CheckoutQueue.Ticket first = ticket("a", 1);
+        CheckoutQueue.Ticket second = ticket("b", 2);
+        CheckoutQueue.Ticket third = ticket("c", 3);
+
+        // 재고 2개를 앞 두 주문에 배정, 세 번째 주문만 따로 처리되어 실패
+        assertThat(orderService.precheck(List.of(first.checkout(), second.checkout(), third.checkout())))
+                .containsExactlyInAnyOrder(0, 1);
+
+        checkoutQueue.process(List.of(first, second, third));
+
+        assertThat(first.toResponse().getStatus()).isEqualTo(CheckoutQueue.COMPLETED);
+        assertThat(second.toResponse().getStatus()).isEqualTo(CheckoutQueue.COMPLETED);
+        assertThat(third.toResponse().getStatus()).isEqualTo(CheckoutQueue.FAILED);
+        assertThat(third.toResponse().getMessage()).startsWith("재고가 부족합니다.");
+        assertThat(stock()).isZero();
+    }
+
+    @Test
+    void resubmitWithSameKeyReturnsTheFirstTicketOnlyForTheSameRequest() {
+        CheckoutTicketResponse first = checkoutQueue.submit(USER_BASE + 1, "retry-key", fixtures.orderRequest(ADDRESS_BASE + 1));
+        int queued = checkoutQueue.queued();
+
+        CheckoutTicketResponse retried = checkoutQueue.submit(USER_BASE + 1, "retry-key", fixtures.orderRequest(ADDRESS_BASE + 1));
+
+        assertThat(retried.getTicketId()).isEqualTo(first.getTicketId());
+        assertThat(checkoutQueue.queued()).isEqualTo(queued);
+        assertThatThrownBy(() -> checkoutQueue.submit(USER_BASE + 1, "retry-key", fixtures.orderRequest(ADDRESS_BASE + 1, 100)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("같은 Idempotency-Key로 다른 주문을 요청할 수 없습니다.");
+        assertThat(checkoutQueue.queued()).isEqualTo(queued);
+    }
+
+    private void fillCart(int user) {
+        fixtures.cartItem(USER_BASE + user, PRODUCT_ID, OPTION_ID, 1);
+    }
+
+    private CheckoutQueue.Ticket ticket(String id, int user) {
+        return new CheckoutQueue.Ticket(id, USER_BASE + user, fixtures.orderRequest(ADDRESS_BASE + user));
+    }
+
+    private int stock() {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product_variant WHERE option_id = ?", Integer.class, OPTION_ID);
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.example.coffee.support.TestFixtures;
+
+@SpringBootTest
+class DatabaseInventoryServiceTest {
+
+    private static final long PRODUCT_ID = 9001L;
+    private static final long OPTION_A = 9101L;
+    private static final long OPTION_B = 9102L;
+    private static final long OPTION_UNTRACKED = 9103L;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        fixtures.product(PRODUCT_ID, "재고 테스트 원두", 10000);
+        for (long optionId : new long[]{OPTION_A, OPTION_B, OPTION_UNTRACKED}) {
+            fixtures.option(optionId, PRODUCT_ID, "옵션" + optionId);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+        int stock = 50;
+        int buyers = 300;
+        insertVariant(OPTION_A, stock);
+
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        for (int i = 0; i < buyers; i++) {
+            pool.submit(() -> {
+                start.await();
+                try {
+                    inventoryService.reserve(List.of(new InventoryService.Line(PRODUCT_ID, OPTION_A, 1)));
+                    succeeded.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(succeeded.get()).isEqualTo(stock);
+        assertThat(rejected.get()).isEqualTo(buyers - stock);
+        assertThat(stockOf(OPTION_A)).isZero();
+    }
+
+    @Test
+    void shortLineRollsBackWholeReservation() {
+        insertVariant(OPTION_A, 10);
+        insertVariant(OPTION_B, 1);
+
+        assertThatThrownBy(() -> inventoryService.reserve(List.of(
+                new InventoryService.Line(PRODUCT_ID, OPTION_A, 3),
+                new InventoryService.Line(PRODUCT_ID, OPTION_B, 2))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(stockOf(OPTION_A)).isEqualTo(10);
+        assertThat(stockOf(OPTION_B)).isEqualTo(1);
+    }
+
+    @Test
+    void optionWithoutVariantIsNotStockManaged() {
+        inventoryService.reserve(List.of(new InventoryService.Line(PRODUCT_ID, OPTION_UNTRACKED, 5)));
+    }
+
+    private void insertVariant(long optionId, int stock) {
+        fixtures.variant(PRODUCT_ID, optionId, stock);
+    }
+
+    private int stockOf(long optionId) {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product_variant WHERE product_id = ? AND option_id = ?",
+                Integer.class, PRODUCT_ID, optionId);
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.example.coffee.dto.OrderRequest;
+import org.example.coffee.dto.OrderResponse;
+import org.example.coffee.support.SqlStatementCounter;
+import org.example.coffee.support.TestFixtures;
+
+@SpringBootTest
+@Import(SqlStatementCounter.Config.class)
+class OrderCheckoutStatementTest {
+
+    private static final long USER_ID = 8001L;
+    private static final long ADDRESS_ID = 8101L;
+    private static final long PRODUCT_ID = 8201L;
+    private static final long OPTION_BASE = 8300L;
+
+    // 사용자, 장바구니, 배송지 조회 3 + 주문 insert 1 + 주문상품 배치 1 + 포인트 UPDATE 1
+    // + 포인트 이력 insert 1 + 장바구니 DELETE 1 + 재고 배치 1 + 시퀀스 (50건마다) 1
+    private static final int MAX_STATEMENTS = 10;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        fixtures.user(USER_ID, 100000);
+        fixtures.address(ADDRESS_ID, USER_ID);
+        fixtures.product(PRODUCT_ID, "배치 테스트 원두", 10000);
+        for (int i = 1; i <= 10; i++) {
+            fixtures.option(OPTION_BASE + i, PRODUCT_ID, "옵션" + i);
+            fixtures.variant(PRODUCT_ID, OPTION_BASE + i, 100);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void checkoutStatementCountDoesNotGrowWithCartSize() {
+        int single = checkout(1);
+        int ten = checkout(10);
+
+        assertThat(ten)
+                .as("statements: %s", sqlStatementCounter.statements())
+                .isEqualTo(single)
+                .isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    void checkoutWritesItemsClearsCartAndUsesPoints() {
+        fillCart(10);
+
+        OrderResponse response = orderService.createOrder(USER_ID, request(5000));
+
+        assertThat(response.getItems()).hasSize(10);
+        assertThat(count("SELECT COUNT(*) FROM order_item WHERE order_id = ?", response.getOrderId())).isEqualTo(10);
+        assertThat(count("SELECT COUNT(*) FROM cart_item WHERE user_id = ?", USER_ID)).isZero();
+        assertThat(count("SELECT point FROM user WHERE user_id = ?", USER_ID)).isEqualTo(95000);
+        assertThat(count("SELECT stock FROM product_variant WHERE option_id = ?", OPTION_BASE + 1)).isEqualTo(99);
+    }
+
+    private int checkout(int lines) {
+        fillCart(lines);
+        OrderRequest request = request(1000);
+
+        sqlStatementCounter.start();
+        orderService.createOrder(USER_ID, request);
+        return sqlStatementCounter.count();
+    }
+
+    private void fillCart(int lines) {
+        for (int i = 1; i <= lines; i++) {
+            fixtures.cartItem(USER_ID, PRODUCT_ID, OPTION_BASE + i, 1);
+        }
+    }
+
+    private OrderRequest request(int usePoint) {
+        return fixtures.orderRequest(ADDRESS_ID, usePoint);
+    }
+
+    private int count(String sql, Object arg) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, arg);
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.example.coffee.dto.CursorPageResponse;
+import org.example.coffee.dto.OrderResponse;
+import org.example.coffee.support.SqlStatementCounter;
+import org.example.coffee.support.TestFixtures;
+
+@SpringBootTest
+@Import(SqlStatementCounter.Config.class)
+class OrderHistoryQueryTest {
+
+    private static final long USER_ID = 7001L;
+    private static final long PRODUCT_BASE = 7100L;
+    private static final long OPTION_BASE = 7200L;
+    private static final long ORDER_BASE = 7300L;
+    private static final long ORDER_ITEM_BASE = 7500L;
+    private static final int PRODUCTS = 3;
+    // 같은 시각에 여러 주문이 생기도록 (orderId로 순서가 갈리는 경우 확인)
+    private static final int ORDERS_PER_MINUTE = 4;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixtures fixtures;
+    private int orders;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        fixtures.user(USER_ID, 0);
+        for (int i = 1; i <= PRODUCTS; i++) {
+            fixtures.product(PRODUCT_BASE + i, "원두" + i, 10000);
+            fixtures.option(OPTION_BASE + i, PRODUCT_BASE + i, "200g");
+        }
+        orders = 0;
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void orderHistoryQueryCountIsConstant() {
+        addOrders(2);
+        int small = countHistoryQueries(null, 2);
+
+        addOrders(48);
+        int large = countHistoryQueries(null, 50);
+
+        assertThat(large)
+                .as("statements: %s", sqlStatementCounter.statements())
+                .isEqualTo(small)
+                .isEqualTo(2);
+    }
+
+    @Test
+    void deepPageCostsTheSameAsFirstPage() {
+        addOrders(100);
+
+        String cursor = null;
+        for (int page = 0; page < 4; page++) {
+            cursor = orderService.getOrdersByUserId(USER_ID, cursor, 20).getNextCursor();
+        }
+        int last = countHistoryQueries(cursor, 20);
+
+        assertThat(last)
+                .as("statements: %s", sqlStatementCounter.statements())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void cursorWalksEveryOrderOnceNewestFirst() {
+        addOrders(45);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<OrderResponse> page = orderService.getOrdersByUserId(USER_ID, cursor, 20);
+            page.getItems().forEach(order -> seen.add(order.getOrderId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        List<Long> expected = new ArrayList<>();
+        for (long id = ORDER_BASE + 44; id >= ORDER_BASE; id--) {
+            expected.add(id);
+        }
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void orderHistoryKeepsItemsWithTheirOrders() {
+        addOrders(3);
+
+        List<OrderResponse> history = orderService.getOrdersByUserId(USER_ID, null, 20).getItems();
+
+        assertThat(history).hasSize(3);
+        for (OrderResponse order : history) {
+            assertThat(order.getItems()).hasSize(PRODUCTS);
+            assertThat(order.getItems()).extracting(OrderResponse.OrderItemDto::getProductName)
+                    .containsExactly("원두1", "원두2", "원두3");
+        }
+    }
+
+    private int countHistoryQueries(String cursor, int expectedOrders) {
+        sqlStatementCounter.start();
+        List<OrderResponse> history = orderService.getOrdersByUserId(USER_ID, cursor, 50).getItems();
+        int count = sqlStatementCounter.count();
+        assertThat(history).hasSize(expectedOrders);
+        return count;
+    }
+
+    private void addOrders(int count) {
+        for (int n = 0; n < count; n++) {
+            LocalDateTime createdAt = BASE_TIME.plusMinutes(orders / ORDERS_PER_MINUTE);
+            long orderId = ORDER_BASE + orders++;
+            jdbcTemplate.update("INSERT INTO orders (order_id, user_id, total_price, final_price, status, recipient, phone, address, created_at) "
+                    + "VALUES (?, ?, 30000, 30000, 'PAID', '홍길동', '010-0000-0000', '서울시', ?)", orderId, USER_ID, createdAt);
+            for (int i = 1; i <= PRODUCTS; i++) {
+                jdbcTemplate.update("INSERT INTO order_item (order_item_id, order_id, product_id, option_id, quantity, price) "
+                        + "VALUES (?, ?, ?, ?, 1, 10000)", ORDER_ITEM_BASE + orderId * PRODUCTS + i, orderId, PRODUCT_BASE + i, OPTION_BASE + i);
+            }
+        }
+    }
+}
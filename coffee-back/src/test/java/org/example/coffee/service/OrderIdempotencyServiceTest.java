@@ -0,0 +1,123 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.example.coffee.dto.OrderRequest;
+import org.example.coffee.dto.OrderResponse;
+import org.example.coffee.support.TestFixtures;
+
+@SpringBootTest
+class OrderIdempotencyServiceTest {
+
+    private static final long USER_ID = 8501L;
+    private static final long ADDRESS_ID = 8511L;
+    private static final long PRODUCT_ID = 8521L;
+    private static final long OPTION_ID = 8531L;
+
+    @Autowired
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        fixtures.user(USER_ID, 10000);
+        fixtures.address(ADDRESS_ID, USER_ID);
+        fixtures.product(PRODUCT_ID, "멱등 테스트 원두", 10000);
+        fixtures.option(OPTION_ID, PRODUCT_ID, "200g");
+        fixtures.variant(PRODUCT_ID, OPTION_ID, 100);
+        fixtures.cartItem(USER_ID, PRODUCT_ID, OPTION_ID, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void concurrentDuplicatesCreateOneOrder() throws Exception {
+        int requests = 8;
+        OrderRequest request = request(1000);
+        ExecutorService pool = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<OrderResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return orderIdempotencyService.createOrder(USER_ID, "retry-1", request);
+                }));
+            }
+            start.countDown();
+
+            List<Long> orderIds = new ArrayList<>();
+            for (Future<OrderResponse> future : futures) {
+                orderIds.add(future.get().getOrderId());
+            }
+            assertThat(orderIds).containsOnly(orderIds.get(0));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(count("SELECT COUNT(*) FROM orders WHERE user_id = ?", USER_ID)).isEqualTo(1);
+        assertThat(count("SELECT point FROM user WHERE user_id = ?", USER_ID)).isEqualTo(9000);
+        assertThat(count("SELECT stock FROM product_variant WHERE option_id = ?", OPTION_ID)).isEqualTo(98);
+    }
+
+    @Test
+    void replayReturnsFirstOrderAfterCartIsEmptied() throws Exception {
+        OrderResponse first = orderIdempotencyService.createOrder(USER_ID, "retry-2", request(0));
+        OrderResponse replay = orderIdempotencyService.createOrder(USER_ID, "retry-2", request(0));
+
+        assertThat(replay.getOrderId()).isEqualTo(first.getOrderId());
+        assertThat(replay.getItems()).hasSize(1);
+        assertThat(count("SELECT COUNT(*) FROM orders WHERE user_id = ?", USER_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void sameKeyWithDifferentRequestIsRejected() throws Exception {
+        orderIdempotencyService.createOrder(USER_ID, "retry-3", request(0));
+
+        assertThatThrownBy(() -> orderIdempotencyService.createOrder(USER_ID, "retry-3", request(500)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void failedRequestCanBeRetriedWithSameKey() throws Exception {
+        jdbcTemplate.update("DELETE FROM cart_item WHERE user_id = ?", USER_ID);
+        assertThatThrownBy(() -> orderIdempotencyService.createOrder(USER_ID, "retry-4", request(0)))
+                .isInstanceOf(RuntimeException.class);
+
+        fixtures.cartItem(USER_ID, PRODUCT_ID, OPTION_ID, 1);
+        OrderResponse retried = orderIdempotencyService.createOrder(USER_ID, "retry-4", request(0));
+
+        assertThat(retried.getItems()).hasSize(1);
+    }
+
+    private OrderRequest request(int usePoint) {
+        return fixtures.orderRequest(ADDRESS_ID, usePoint);
+    }
+
+    private int count(String sql, Object arg) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, arg);
+    }
+}
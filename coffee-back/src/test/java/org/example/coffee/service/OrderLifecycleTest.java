@@ -0,0 +1,118 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.example.coffee.dto.OrderRequest;
+import org.example.coffee.dto.OrderResponse;
+import org.example.coffee.support.TestFixtures;
+
+@SpringBootTest
+class OrderLifecycleTest {
+
+    private static final long USER_ID = 8701L;
+    private static final long ADDRESS_ID = 8711L;
+    private static final long PRODUCT_ID = 8721L;
+    private static final long OPTION_ID = 8731L;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderOutboxRelay orderOutboxRelay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        fixtures.user(USER_ID, 5000);
+        fixtures.address(ADDRESS_ID, USER_ID);
+        fixtures.product(PRODUCT_ID, "상태 테스트 원두", 100000);
+        fixtures.option(OPTION_ID, PRODUCT_ID, "1kg");
+        fixtures.variant(PRODUCT_ID, OPTION_ID, 10);
+        fixtures.cartItem(USER_ID, PRODUCT_ID, OPTION_ID, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void cancelRefundsUsedPointsThroughOutbox() {
+        OrderResponse order = orderService.createOrder(USER_ID, request(3000));
+        orderService.payOrder(order.getOrderId(), USER_ID);
+        orderService.cancelOrder(order.getOrderId(), USER_ID);
+
+        assertThat(point()).isEqualTo(2000);
+        assertThat(stock()).isEqualTo(10);
+
+        orderOutboxRelay.relay();
+
+        assertThat(point()).isEqualTo(5000);
+        assertThat(count("SELECT COUNT(*) FROM point_history WHERE user_id = ? AND type = 'REFUND' AND balance = 5000"))
+                .isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM order_outbox WHERE user_id = ?")).isZero();
+    }
+
+    @Test
+    void deliveryEarnsPointsAndSetsTimestamps() {
+        OrderResponse order = orderService.createOrder(USER_ID, request(0));
+        orderService.payOrder(order.getOrderId(), USER_ID);
+        orderService.shipOrder(order.getOrderId());
+        OrderResponse delivered = orderService.confirmDelivery(order.getOrderId(), USER_ID);
+
+        assertThat(delivered.getStatus()).isEqualTo("DELIVERED");
+        assertThat(delivered.getPaidAt()).isNotNull();
+        assertThat(delivered.getShippedAt()).isNotNull();
+        assertThat(delivered.getDeliveredAt()).isNotNull();
+
+        orderOutboxRelay.relay();
+
+        // 결제금액 100000원의 1%
+        assertThat(point()).isEqualTo(6000);
+        assertThat(count("SELECT COUNT(*) FROM point_history WHERE user_id = ? AND type = 'EARN'")).isEqualTo(1);
+    }
+
+    @Test
+    void invalidTransitionsAreRejected() {
+        OrderResponse order = orderService.createOrder(USER_ID, request(0));
+
+        assertThatThrownBy(() -> orderService.confirmDelivery(order.getOrderId(), USER_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        orderService.payOrder(order.getOrderId(), USER_ID);
+        orderService.shipOrder(order.getOrderId());
+
+        assertThatThrownBy(() -> orderService.cancelOrder(order.getOrderId(), USER_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(orderService.cancelUnpaidOrder(order.getOrderId())).isFalse();
+    }
+
+    private OrderRequest request(int usePoint) {
+        return fixtures.orderRequest(ADDRESS_ID, usePoint);
+    }
+
+    private int point() {
+        return count("SELECT point FROM user WHERE user_id = ?");
+    }
+
+    private int stock() {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product_variant WHERE option_id = ?", Integer.class, OPTION_ID);
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, USER_ID);
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.example.coffee.dto.OrderResponse;
+import org.example.coffee.support.TestFixtures;
+
+// 결제 대기 0분: 주문이 커밋되면 다음 틱(20ms)에 만료된다
+@SpringBootTest(properties = {
+        "app.order.expiry-enabled=true",
+        "app.order.payment-timeout-minutes=0",
+        "app.order.expiry-tick-ms=20",
+        "app.order.expiry-wheel-size=64"})
+class PendingOrderExpirerTest {
+
+    private static final long USER_ID = 9401L;
+    private static final long ADDRESS_ID = 9411L;
+    private static final long PRODUCT_ID = 9421L;
+    private static final long OPTION_ID = 9431L;
+    private static final long ORDER_BASE = 9440L;
+
+    @Autowired
+    private PendingOrderExpirer pendingOrderExpirer;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        fixtures.user(USER_ID, 0);
+        fixtures.address(ADDRESS_ID, USER_ID);
+        fixtures.product(PRODUCT_ID, "만료 테스트 원두", 10000);
+        fixtures.option(OPTION_ID, PRODUCT_ID, "200g");
+        fixtures.variant(PRODUCT_ID, OPTION_ID, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void unpaidOrderIsCancelledAndStockReleased() throws Exception {
+        fixtures.cartItem(USER_ID, PRODUCT_ID, OPTION_ID, 3);
+
+        OrderResponse order = orderService.createOrder(USER_ID, fixtures.orderRequest(ADDRESS_ID, 0));
+
+        awaitStatus(order.getOrderId(), "CANCELLED");
+        assertThat(stock()).isEqualTo(10);
+    }
+
+    @Test
+    void paidOrderTimerDoesNothing() throws Exception {
+        fixtures.cartItem(USER_ID, PRODUCT_ID, OPTION_ID, 2);
+
+        // 타이머는 커밋 후에 걸리므로 만료 시점에는 이미 PAID
+        OrderResponse order = new TransactionTemplate(transactionManager).execute(status -> {
+            OrderResponse created = orderService.createOrder(USER_ID, fixtures.orderRequest(ADDRESS_ID, 0));
+            return orderService.payOrder(created.getOrderId(), USER_ID);
+        });
+
+        awaitNoTimers();
+        assertThat(status(order.getOrderId())).isEqualTo("PAID");
+        assertThat(stock()).isEqualTo(8);
+    }
+
+    @Test
+    void rebuildSchedulesOnlyPendingOrders() throws Exception {
+        // 재기동 전에 만들어진 주문들 (재고는 이미 차감된 상태)
+        jdbcTemplate.update("UPDATE product_variant SET stock = 6 WHERE option_id = ?", OPTION_ID);
+        insertOrder(ORDER_BASE + 1, "PENDING", 4);
+        insertOrder(ORDER_BASE + 2, "PAID", 1);
+
+        pendingOrderExpirer.rebuild();
+
+        awaitStatus(ORDER_BASE + 1, "CANCELLED");
+        awaitNoTimers();
+        assertThat(status(ORDER_BASE + 2)).isEqualTo("PAID");
+        assertThat(stock()).isEqualTo(10);
+    }
+
+    private void insertOrder(long orderId, String status, int quantity) {
+        jdbcTemplate.update("INSERT INTO orders (order_id, user_id, total_price, final_price, status, recipient, phone, address, created_at) "
+                + "VALUES (?, ?, 10000, 10000, ?, '홍길동', '010-0000-0000', '서울시', ?)",
+                orderId, USER_ID, status, LocalDateTime.now().minusHours(1));
+        jdbcTemplate.update("INSERT INTO order_item (order_item_id, order_id, product_id, option_id, quantity, price) "
+                + "VALUES (?, ?, ?, ?, ?, 10000)", orderId, orderId, PRODUCT_ID, OPTION_ID, quantity);
+    }
+
+    private void awaitStatus(long orderId, String expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!expected.equals(status(orderId)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(status(orderId)).isEqualTo(expected);
+    }
+
+    private void awaitNoTimers() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pendingOrderExpirer.pendingTimers() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(pendingOrderExpirer.pendingTimers()).isZero();
+    }
+
+    private String status(long orderId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM orders WHERE order_id = ?", String.class, orderId);
+    }
+
+    private int stock() {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product_variant WHERE option_id = ?", Integer.class, OPTION_ID);
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.example.coffee.support.TestFixtures;
+
+@SpringBootTest
+class PointLedgerTest {
+
+    private static final long USER_ID = 9001L;
+    private static final int INITIAL_POINT = 10000;
+
+    @Autowired
+    private PointLedger pointLedger;
+
+    @Autowired
+    private PointSnapshotter pointSnapshotter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        fixtures.user(USER_ID, INITIAL_POINT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void parallelUsesNeverOverdraw() throws Exception {
+        // 300씩 40번 사용 시도: 10000 / 300 = 33번만 성공
+        int succeeded = runInParallel(40, i -> pointLedger.use(USER_ID, 300, null, "주문 사용"));
+
+        assertThat(succeeded).isEqualTo(33);
+        assertThat(point()).isEqualTo(INITIAL_POINT - 33 * 300);
+        assertLedgerIsConsistent();
+    }
+
+    @Test
+    void parallelUsesAndRefundsKeepExactBalance() throws Exception {
+        int succeeded = runInParallel(50, i -> {
+            if (i % 2 == 0) {
+                pointLedger.use(USER_ID, 300, null, "주문 사용");
+            } else {
+                pointLedger.add(USER_ID, 100, PointLedger.REFUND, null, "주문 취소 환불");
+            }
+        });
+
+        assertThat(succeeded).isEqualTo(50);
+        assertThat(point()).isEqualTo(INITIAL_POINT - 25 * 300 + 25 * 100);
+        assertLedgerIsConsistent();
+    }
+
+    @Test
+    void snapshotFollowsLedger() {
+        pointLedger.use(USER_ID, 1000, null, "주문 사용");
+        pointLedger.add(USER_ID, 500, PointLedger.EARN, null, "구매 확정 적립");
+        pointSnapshotter.snapshot();
+
+        assertThat(snapshotBalance()).isEqualTo(9500);
+
+        long drifted = pointSnapshotter.drifted();
+        pointLedger.use(USER_ID, 2000, null, "주문 사용");
+        pointSnapshotter.snapshot();
+
+        assertThat(snapshotBalance()).isEqualTo(7500).isEqualTo(point());
+        assertThat(pointSnapshotter.drifted()).isEqualTo(drifted);
+    }
+
+    // 내역을 순서대로 따라가면 매 줄의 balance가 직전 잔액 + amount이고 마지막 balance가 현재 잔액이다
+    private void assertLedgerIsConsistent() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT amount, balance FROM point_history WHERE user_id = ? ORDER BY history_id", USER_ID);
+        int balance = INITIAL_POINT;
+        for (Map<String, Object> row : rows) {
+            balance += ((Number) row.get("amount")).intValue();
+            assertThat(((Number) row.get("balance")).intValue()).isEqualTo(balance).isNotNegative();
+        }
+        assertThat(balance).isEqualTo(point());
+    }
+
+    private int runInParallel(int tasks, IntTask task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            int succeeded = 0;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).hasMessage("포인트가 부족합니다.");
+                }
+            }
+            return succeeded;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private int point() {
+        return jdbcTemplate.queryForObject("SELECT point FROM user WHERE user_id = ?", Integer.class, USER_ID);
+    }
+
+    private int snapshotBalance() {
+        return jdbcTemplate.queryForObject("SELECT balance FROM point_snapshot WHERE user_id = ?", Integer.class, USER_ID);
+    }
+
+    private interface IntTask {
+        void run(int index);
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.example.coffee.event.StockChangedEvent;
+import org.example.coffee.support.TestFixtures;
+
+@SpringBootTest
+class ProductAvailabilityTest {
+
+    private static final long PRODUCT_ID = 9201L;
+    private static final long OPTION_ID = 9211L;
+    private static final long BUSY_PRODUCT_ID = 9202L;
+    private static final long BUSY_OPTION_ID = 9212L;
+
+    @Autowired
+    private ProductAvailability productAvailability;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        fixtures.product(PRODUCT_ID, "품절 테스트 원두", 10000);
+        fixtures.option(OPTION_ID, PRODUCT_ID, "200g");
+        fixtures.variant(PRODUCT_ID, OPTION_ID, 2);
+        fixtures.product(BUSY_PRODUCT_ID, "주문 많은 원두", 10000);
+        fixtures.option(BUSY_OPTION_ID, BUSY_PRODUCT_ID, "200g");
+        fixtures.variant(BUSY_PRODUCT_ID, BUSY_OPTION_ID, 5);
+        assertThat(productAvailability.resync()).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+        productAvailability.resync();
+    }
+
+    @Test
+    void resyncOverlappingAnUncommittedDeltaIsDiscarded() {
+        // 재계산이 커밋될 변경(2 -> 1)을 이미 읽은 상태에서 같은 증감이 커밋 후 다시 들어오는 경우
+        Boolean resynced = new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.update("UPDATE product_variant SET stock = stock - 1 WHERE option_id = ?", OPTION_ID);
+            eventPublisher.publishEvent(new StockChangedEvent(List.of(new StockChangedEvent.Delta(PRODUCT_ID, OPTION_ID, -1))));
+            return productAvailability.resync();
+        });
+
+        // 재계산을 반영했다면 1 - 1 = 0 으로 품절 처리되었을 것
+        assertThat(resynced).isFalse();
+        assertThat(productAvailability.isInStock(PRODUCT_ID)).isTrue();
+
+        assertThat(productAvailability.resync()).isTrue();
+        assertThat(productAvailability.isInStock(PRODUCT_ID)).isTrue();
+    }
+
+    @Test
+    void resyncIsForcedAfterTooManySkippedRounds() {
+        // 이벤트 밖의 변경 (재계산으로만 보인다)
+        jdbcTemplate.update("UPDATE product_variant SET stock = 0 WHERE option_id = ?", OPTION_ID);
+
+        // 다른 상품의 증감이 계속 진행 중인 상태
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE product_variant SET stock = stock - 1 WHERE option_id = ?", BUSY_OPTION_ID);
+            eventPublisher.publishEvent(new StockChangedEvent(List.of(new StockChangedEvent.Delta(BUSY_PRODUCT_ID, BUSY_OPTION_ID, -1))));
+
+            for (int round = 0; round < 5; round++) {
+                assertThat(productAvailability.resync()).isFalse();
+            }
+            assertThat(productAvailability.isInStock(PRODUCT_ID)).isTrue();
+
+            assertThat(productAvailability.resync()).isTrue();
+            assertThat(productAvailability.isInStock(PRODUCT_ID)).isFalse();
+        });
+    }
+
+    @Test
+    void rolledBackDeltaIsNotApplied() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new StockChangedEvent(List.of(new StockChangedEvent.Delta(PRODUCT_ID, OPTION_ID, -2))));
+            status.setRollbackOnly();
+        });
+
+        assertThat(productAvailability.isInStock(PRODUCT_ID)).isTrue();
+        assertThat(productAvailability.resync()).isTrue();
+    }
+}
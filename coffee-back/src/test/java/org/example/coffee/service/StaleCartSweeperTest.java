@@ -0,0 +1,88 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.example.coffee.support.SqlStatementCounter;
+import org.example.coffee.support.TestFixtures;
+
+@SpringBootTest
+@Import(SqlStatementCounter.Config.class)
+class StaleCartSweeperTest {
+
+    private static final long USER_ID = 8901L;
+    private static final long PRODUCT_ID = 8911L;
+    private static final long OPTION_BASE = 8920L;
+    private static final long CART_ITEM_BASE = 8940L;
+
+    @Autowired
+    private StaleCartSweeper staleCartSweeper;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        fixtures.user(USER_ID, 0);
+        fixtures.product(PRODUCT_ID, "정리 테스트 원두", 10000);
+        for (int i = 1; i <= 6; i++) {
+            fixtures.option(OPTION_BASE + i, PRODUCT_ID, "옵션" + i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void deletesOnlyStaleLinesChunkByChunk() {
+        LocalDateTime old = LocalDateTime.now().minusDays(40);
+        LocalDateTime recent = LocalDateTime.now().minusDays(1);
+        cartItem(1, old, null);
+        cartItem(2, old, old);
+        cartItem(3, recent, recent);
+        cartItem(4, old, null);
+        // 오래전에 담았지만 최근에 수량을 바꾼 항목은 남는다
+        cartItem(5, old, recent);
+        cartItem(6, old, old);
+
+        sqlStatementCounter.start();
+        int purged = staleCartSweeper.sweep();
+        int statements = sqlStatementCounter.count();
+
+        assertThat(purged).isEqualTo(4);
+        assertThat(staleCartSweeper.lastPurged()).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForList("SELECT cart_item_id FROM cart_item WHERE user_id = ? ORDER BY cart_item_id",
+                Long.class, USER_ID))
+                .isEqualTo(List.of(CART_ITEM_BASE + 3, CART_ITEM_BASE + 5));
+        // 범위 조회 한 번 + 2건 폭 구간 DELETE 세 번
+        assertThat(statements)
+                .as("statements: %s", sqlStatementCounter.statements())
+                .isEqualTo(4);
+    }
+
+    private void cartItem(int i, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        jdbcTemplate.update("INSERT INTO cart_item (cart_item_id, user_id, product_id, option_id, quantity, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, 1, ?, ?)",
+                CART_ITEM_BASE + i, USER_ID, PRODUCT_ID, OPTION_BASE + i,
+                Timestamp.valueOf(createdAt), updatedAt != null ? Timestamp.valueOf(updatedAt) : null);
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.example.coffee.dto.OrderResponse;
+import org.example.coffee.support.SqlStatementCounter;
+import org.example.coffee.support.TestFixtures;
+
+// 반영 주기는 길게 잡고 flush()를 직접 호출한다
+@SpringBootTest(properties = {"app.inventory.mode=memory", "app.inventory.flush-interval-ms=3600000"})
+@Import(SqlStatementCounter.Config.class)
+class StripedInventoryServiceTest {
+
+    private static final long USER_ID = 9301L;
+    private static final long ADDRESS_ID = 9311L;
+    private static final long PRODUCT_ID = 9321L;
+    private static final long OPTION_ID = 9331L;
+    private static final long OPTION_UNTRACKED = 9332L;
+    private static final long ORDER_ID = 9341L;
+    private static final long ORDER_ITEM_ID = 9351L;
+
+    @Autowired
+    private StripedInventoryService inventoryService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductAvailability productAvailability;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(jdbcTemplate);
+        fixtures.user(USER_ID, 0);
+        fixtures.address(ADDRESS_ID, USER_ID);
+        fixtures.product(PRODUCT_ID, "한정 수량 원두", 10000);
+        fixtures.option(OPTION_ID, PRODUCT_ID, "200g");
+        fixtures.option(OPTION_UNTRACKED, PRODUCT_ID, "1kg");
+        fixtures.variant(PRODUCT_ID, OPTION_ID, 10);
+        // 앞선 테스트의 카운터를 버리고 방금 넣은 재고로 다시 읽는다
+        inventoryService.recover();
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventoryService.flush();
+        fixtures.cleanUp();
+        productAvailability.resync();
+    }
+
+    @Test
+    void committedOrderIsWrittenBackOnFlush() {
+        fixtures.cartItem(USER_ID, PRODUCT_ID, OPTION_ID, 3);
+
+        OrderResponse order = orderService.createOrder(USER_ID, fixtures.orderRequest(ADDRESS_ID, 0));
+
+        assertThat(available()).isEqualTo(7);
+        assertThat(dbStock()).isEqualTo(10);
+        assertThat(stockSynced(order.getOrderId())).isFalse();
+
+        inventoryService.flush();
+
+        assertThat(dbStock()).isEqualTo(7);
+        assertThat(stockSynced(order.getOrderId())).isTrue();
+        assertThat(available()).isEqualTo(7);
+    }
+
+    @Test
+    void availabilityResyncFollowsCountersBeforeFlush() {
+        fixtures.cartItem(USER_ID, PRODUCT_ID, OPTION_ID, 10);
+        orderService.createOrder(USER_ID, fixtures.orderRequest(ADDRESS_ID, 0));
+
+        // DB에는 아직 10개가 남아 있지만 카운터 기준으로는 품절
+        assertThat(productAvailability.resync()).isTrue();
+        assertThat(dbStock()).isEqualTo(10);
+        assertThat(productAvailability.isInStock(PRODUCT_ID)).isFalse();
+
+        inventoryService.flush();
+        assertThat(productAvailability.resync()).isTrue();
+        assertThat(productAvailability.isInStock(PRODUCT_ID)).isFalse();
+    }
+
+    @Test
+    void recoverAppliesUnsyncedOrdersBeforeLoadingCounters() {
+        // 반영 전에 서버가 내려간 주문
+        jdbcTemplate.update("INSERT INTO orders (order_id, user_id, total_price, final_price, status, recipient, phone, address, stock_synced) "
+                + "VALUES (?, ?, 40000, 40000, 'PAID', '홍길동', '010-0000-0000', '서울시', false)", ORDER_ID, USER_ID);
+        jdbcTemplate.update("INSERT INTO order_item (order_item_id, order_id, product_id, option_id, quantity, price) "
+                + "VALUES (?, ?, ?, ?, 4, 40000)", ORDER_ITEM_ID, ORDER_ID, PRODUCT_ID, OPTION_ID);
+
+        inventoryService.recover();
+
+        assertThat(dbStock()).isEqualTo(6);
+        assertThat(available()).isEqualTo(6);
+        assertThat(stockSynced(ORDER_ID)).isTrue();
+    }
+
+    @Test
+    void rolledBackReservationGivesStockBack() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            inventoryService.reserve(List.of(new InventoryService.Line(PRODUCT_ID, OPTION_ID, 4)));
+            assertThat(available()).isEqualTo(6);
+            status.setRollbackOnly();
+        });
+
+        assertThat(available()).isEqualTo(10);
+        assertThat(dbStock()).isEqualTo(10);
+    }
+
+    @Test
+    void missingStockRowIsRememberedUntilRefresh() {
+        InventoryService.Variant untracked = new InventoryService.Variant(PRODUCT_ID, OPTION_UNTRACKED);
+        assertThat(inventoryService.available(List.of(untracked))).isEmpty();
+
+        sqlStatementCounter.start();
+        inventoryService.available(List.of(untracked));
+        inventoryService.reserve(List.of(new InventoryService.Line(PRODUCT_ID, OPTION_UNTRACKED, 1)));
+        assertThat(sqlStatementCounter.count())
+                .as("statements: %s", sqlStatementCounter.statements())
+                .isZero();
+
+        inventoryService.refreshUntracked();
+        sqlStatementCounter.start();
+        inventoryService.available(List.of(untracked));
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    private int available() {
+        return inventoryService.available(List.of(new InventoryService.Variant(PRODUCT_ID, OPTION_ID)))
+                .get(new InventoryService.Variant(PRODUCT_ID, OPTION_ID));
+    }
+
+    private int dbStock() {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product_variant WHERE option_id = ?", Integer.class, OPTION_ID);
+    }
+
+    private boolean stockSynced(long orderId) {
+        return jdbcTemplate.queryForObject("SELECT stock_synced FROM orders WHERE order_id = ?", Boolean.class, orderId);
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class StripedStockCounterTest {
+
+    @Test
+    void concurrentTakesNeverOversell() throws Exception {
+        int stock = 1000;
+        StripedStockCounter counter = new StripedStockCounter(stock, 8);
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger taken = new AtomicInteger();
+
+        for (int i = 0; i < 20_000; i++) {
+            int quantity = i % 3 + 1;
+            pool.submit(() -> {
+                start.await();
+                if (counter.tryTake(quantity)) {
+                    taken.addAndGet(quantity);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(counter.available()).isGreaterThanOrEqualTo(0);
+        assertThat(taken.get() + counter.available()).isEqualTo(stock);
+        // 요청이 재고보다 훨씬 많으므로 남는 수량은 한 건 최대 수량보다 작아야 한다
+        assertThat(counter.available()).isLessThan(3);
+    }
+
+    @Test
+    void takesAcrossStripesWhenNoSingleStripeIsEnough() {
+        StripedStockCounter counter = new StripedStockCounter(8, 8);
+
+        assertThat(counter.tryTake(5)).isTrue();
+        assertThat(counter.tryTake(4)).isFalse();
+        assertThat(counter.available()).isEqualTo(3);
+
+        counter.put(1);
+        assertThat(counter.tryTake(4)).isTrue();
+        assertThat(counter.available()).isZero();
+    }
+}
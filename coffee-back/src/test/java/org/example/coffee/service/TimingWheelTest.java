@@ -0,0 +1,109 @@
+package org.example.coffee.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    // 10ms 틱 8칸: 한 바퀴 80ms
+    private static final long TICK_MILLIS = 10;
+    private static final int WHEEL_SIZE = 8;
+
+    private final Map<Long, Long> expiredAt = new ConcurrentHashMap<>();
+    private TimingWheel wheel;
+    private long startedAt;
+
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void wheelSizeMustBeAPowerOfTwo() {
+        assertThatThrownBy(() -> new TimingWheel("test", TICK_MILLIS, 6, keys -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void timersExpireAtTheirDeadlineAcrossRotations() throws Exception {
+        CountDownLatch done = new CountDownLatch(4);
+        start(keys -> keys.forEach(key -> {
+            expiredAt.put(key, System.currentTimeMillis() - startedAt);
+            done.countDown();
+        }));
+
+        // 같은 칸(3번)에 놓이지만 남은 바퀴 수가 다른 타이머들
+        wheel.schedule(1L, startedAt + 35);
+        wheel.schedule(2L, startedAt + 35 + 2 * WHEEL_SIZE * TICK_MILLIS);
+        wheel.schedule(3L, startedAt + 400);
+        // 이미 지난 시각은 다음 틱에 만료
+        wheel.schedule(4L, startedAt - 10_000);
+        assertThat(wheel.size()).isEqualTo(4);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(expiredAt.get(4L)).isLessThanOrEqualTo(expiredAt.get(1L));
+        assertThat(expiredAt.get(1L)).isGreaterThanOrEqualTo(30L).isLessThan(195L);
+        assertThat(expiredAt.get(2L)).isGreaterThanOrEqualTo(190L);
+        assertThat(expiredAt.get(3L)).isGreaterThanOrEqualTo(400L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void handlerCanRescheduleAKey() throws Exception {
+        // 처리 실패 시 다시 거는 경우 (PendingOrderExpirer 재시도와 같은 방식)
+        Map<Long, Integer> calls = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(2);
+        start(keys -> keys.forEach(key -> {
+            if (calls.merge(key, 1, Integer::sum) == 1) {
+                wheel.schedule(key, System.currentTimeMillis() + 50);
+            }
+            expiredAt.put(key, System.currentTimeMillis() - startedAt);
+            done.countDown();
+        }));
+
+        wheel.schedule(7L, startedAt + 20);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(calls.get(7L)).isEqualTo(2);
+        assertThat(expiredAt.get(7L)).isGreaterThanOrEqualTo(70L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void manyTimersAllExpireOnce() throws Exception {
+        int timers = 200_000;
+        Map<Long, Integer> calls = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(timers);
+        start(keys -> keys.forEach(key -> {
+            calls.merge(key, 1, Integer::sum);
+            done.countDown();
+        }));
+
+        for (long key = 0; key < timers; key++) {
+            wheel.schedule(key, startedAt + key % 300);
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(calls).hasSize(timers);
+        assertThat(calls.values()).containsOnly(1);
+        assertThat(wheel.size()).isZero();
+    }
+
+    private void start(Consumer<List<Long>> handler) {
+        wheel = new TimingWheel("test-wheel", TICK_MILLIS, WHEEL_SIZE, handler);
+        startedAt = System.currentTimeMillis();
+        wheel.start();
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.coffee.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 테스트용 SQL 실행 횟수 카운터
+ * DataSource를 감싸 JDBC 왕복(execute*, executeBatch)마다 한 번씩 센다. JDBC 배치는 한 번으로 친다.
+ * start()를 호출한 스레드에서 실행된 문장만 세므로 스케줄러 등 백그라운드 조회는 섞이지 않는다.
+ */
+public class SqlStatementCounter implements BeanPostProcessor {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+    private volatile Thread owner;
+
+    public void start() {
+        statements.clear();
+        owner = Thread.currentThread();
+    }
+
+    public int count() {
+        return statements.size();
+    }
+
+    public List<String> statements() {
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection connection ? wrapConnection(connection) : result;
+            });
+        }
+        return bean;
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof CallableStatement) {
+                return result;
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private <T extends Statement> T wrapStatement(Class<T> type, T statement, String preparedSql) {
+        return proxy(type, statement, (target, method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName()) && Thread.currentThread() == owner) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                statements.add(method.getName().contains("Batch") ? "[batch] " + sql : sql);
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private interface Handler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public static SqlStatementCounter sqlStatementCounter() {
+            return new SqlStatementCounter();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.coffee.support;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.example.coffee.dto.OrderRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 테스트 데이터 픽스처
+ * 사용자/배송지/상품/옵션/재고/장바구니 행을 JdbcTemplate 으로 직접 넣고, 넣은 사용자와 상품을 기억해 두었다가
+ * cleanUp()에서 그에 딸린 행(주문, 포인트 내역, 장바구니 등)까지 외래 키 역순으로 지운다.
+ * 테스트마다 @BeforeEach 에서 새로 만들고 @AfterEach 에서 cleanUp()을 호출한다. ID는 테스트별로 겹치지 않게 고른다.
+ */
+public class TestFixtures {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Set<Long> userIds = new LinkedHashSet<>();
+    private final Set<Long> productIds = new LinkedHashSet<>();
+
+    public TestFixtures(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void user(long userId, int point) {
+        jdbcTemplate.update("INSERT INTO user (user_id, email, name, provider, provider_id, point) VALUES (?, ?, ?, ?, ?, ?)",
+                userId, "user" + userId + "@test.com", "테스트", "KAKAO", "test-" + userId, point);
+        userIds.add(userId);
+    }
+
+    public void address(long addressId, long userId) {
+        jdbcTemplate.update("INSERT INTO user_address (address_id, user_id, name, recipient, phone, address) VALUES (?, ?, ?, ?, ?, ?)",
+                addressId, userId, "집", "홍길동", "010-0000-0000", "서울시");
+    }
+
+    public void product(long productId, String name, int basePrice) {
+        jdbcTemplate.update("INSERT INTO product (product_id, product_name, base_price) VALUES (?, ?, ?)",
+                productId, name, basePrice);
+        productIds.add(productId);
+    }
+
+    public void option(long optionId, long productId, String value) {
+        option(optionId, productId, value, 0);
+    }
+
+    public void option(long optionId, long productId, String value, int extraPrice) {
+        jdbcTemplate.update("INSERT INTO product_option (option_id, product_id, option_value, extra_price) VALUES (?, ?, ?, ?)",
+                optionId, productId, value, extraPrice);
+    }
+
+    public void variant(long productId, long optionId, int stock) {
+        jdbcTemplate.update("INSERT INTO product_variant (product_id, option_id, stock) VALUES (?, ?, ?)",
+                productId, optionId, stock);
+    }
+
+    public void cartItem(long userId, long productId, long optionId, int quantity) {
+        jdbcTemplate.update("INSERT INTO cart_item (user_id, product_id, option_id, quantity) VALUES (?, ?, ?, ?)",
+                userId, productId, optionId, quantity);
+    }
+
+    // 컨트롤러와 같은 경로(JSON 역직렬화)로 주문 요청 생성 (usePoint 생략)
+    public OrderRequest orderRequest(long addressId) {
+        return readOrderRequest("{\"addressId\":" + addressId + "}");
+    }
+
+    public OrderRequest orderRequest(long addressId, int usePoint) {
+        return readOrderRequest("{\"addressId\":" + addressId + ",\"usePoint\":" + usePoint + "}");
+    }
+
+    // 넣은 사용자/상품과 거기에 딸린 행을 모두 지운다 (외래 키 역순)
+    public void cleanUp() {
+        for (long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM order_outbox WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM point_snapshot WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM point_history WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM order_item WHERE order_id IN (SELECT order_id FROM orders WHERE user_id = ?)", userId);
+            jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM cart_item WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM user_address WHERE user_id = ?", userId);
+        }
+        for (long productId : productIds) {
+            jdbcTemplate.update("DELETE FROM product_variant WHERE product_id = ?", productId);
+            jdbcTemplate.update("DELETE FROM product_option WHERE product_id = ?", productId);
+            jdbcTemplate.update("DELETE FROM product WHERE product_id = ?", productId);
+        }
+        for (long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM user WHERE user_id = ?", userId);
+        }
+        userIds.clear();
+        productIds.clear();
+    }
+
+    private OrderRequest readOrderRequest(String json) {
+        try {
+            return OBJECT_MAPPER.readValue(json, OrderRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
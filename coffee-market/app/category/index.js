@@ -22,12 +22,12 @@ export default function CategoryScreen() {
 
   const [products, setProducts] = useState([]);
   const [loading, setLoading] = useState(true);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   const title = continent || nationality || process || '카테고리';
 
-  useEffect(() => {
-    setLoading(true);
-
+  const buildUrl = (cursor) => {
     let url = '';
     if (continent) {
       url = `${API_BASE_URL}/api/products/filter/continent?value=${encodeURIComponent(continent)}`;
@@ -36,12 +36,23 @@ export default function CategoryScreen() {
     } else if (process) {
       url = `${API_BASE_URL}/api/products/filter/type?value=${encodeURIComponent(process)}`;
     }
+    if (url && cursor) {
+      url += `&cursor=${encodeURIComponent(cursor)}`;
+    }
+    return url;
+  };
 
+  useEffect(() => {
+    setLoading(true);
+    setNextCursor(null);
+
+    const url = buildUrl(null);
     if (url) {
       fetch(url)
         .then(res => res.json())
         .then(data => {
-          setProducts(data);
+          setProducts(data.items);
+          setNextCursor(data.hasNext ? data.nextCursor : null);
           setLoading(false);
         })
         .catch(err => {
@@ -53,6 +64,24 @@ export default function CategoryScreen() {
     }
   }, [continent, nationality, process]);
 
+  // 다음 페이지 불러오기
+  const loadMore = () => {
+    if (!nextCursor || loadingMore) return;
+    setLoadingMore(true);
+
+    fetch(buildUrl(nextCursor))
+      .then(res => res.json())
+      .then(data => {
+        setProducts(prev => [...prev, ...data.items]);
+        setNextCursor(data.hasNext ? data.nextCursor : null);
+        setLoadingMore(false);
+      })
+      .catch(err => {
+        console.error(err);
+        setLoadingMore(false);
+      });
+  };
+
   const renderProduct = ({ item }) => (
     <TouchableOpacity
       style={styles.productCard}
@@ -72,6 +101,7 @@ export default function CategoryScreen() {
         <Text style={styles.productPrice}>
           {item.basePrice.toLocaleString()}원
         </Text>
+        {item.inStock === false && <Text style={styles.soldOutText}>품절</Text>}
       </View>
     </TouchableOpacity>
   );
@@ -116,6 +146,8 @@ export default function CategoryScreen() {
             columnWrapperStyle={styles.row}
             showsVerticalScrollIndicator={false}
             contentContainerStyle={styles.listContent}
+            onEndReached={loadMore}
+            onEndReachedThreshold={0.5}
           />
         )}
       </View>
@@ -224,4 +256,10 @@ const styles = StyleSheet.create({
     fontWeight: '700',
     color: '#1c1c1e',
   },
+  soldOutText: {
+    marginTop: 4,
+    fontSize: 13,
+    fontWeight: '600',
+    color: '#ff3b30',
+  },
 });
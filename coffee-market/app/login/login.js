@@ -148,6 +148,10 @@ export default function LoginScreen() {
   // 백엔드로 토큰 전송
   const sendToBackend = async (provider, accessToken) => {
     try {
+      // 비로그인 상태에서 담은 장바구니는 로그인 요청에 함께 보내 한 번에 합친다
+      const savedGuestCart = await AsyncStorage.getItem('guestCart');
+      const guestCart = savedGuestCart ? JSON.parse(savedGuestCart) : [];
+
       const response = await fetch(`${API_BASE_URL}/api/auth/login`, {
         method: 'POST',
         headers: {
@@ -156,6 +160,7 @@ export default function LoginScreen() {
         body: JSON.stringify({
           provider,
           accessToken,
+          guestCart,
         }),
       });
 
@@ -169,6 +174,7 @@ export default function LoginScreen() {
       await AsyncStorage.setItem('accessToken', data.accessToken);
       await AsyncStorage.setItem('refreshToken', data.refreshToken);
       await AsyncStorage.setItem('user', JSON.stringify(data.user));
+      await AsyncStorage.removeItem('guestCart');
 
       Alert.alert('로그인 성공', `${data.user.name}님 환영합니다!`, [
         { text: '확인', onPress: () => router.replace('/home') },
@@ -1,4 +1,4 @@
-import React, { useEffect, useState, useCallback } from 'react';
+import React, { useEffect, useState, useCallback, useRef } from 'react';
 import { Stack, useRouter, useFocusEffect } from 'expo-router';
 import {
   View,
@@ -26,6 +26,12 @@ export default function CheckoutScreen() {
   const [usePoint, setUsePoint] = useState(0);
   const [memo, setMemo] = useState('');
 
+  // 같은 주문 내용으로 재시도하면 같은 키를 보내서 중복 주문을 막는다
+  const idempotencyKey = useRef(null);
+  useEffect(() => {
+    idempotencyKey.current = `${Date.now()}-${Math.random().toString(36).slice(2)}`;
+  }, [selectedAddress, usePoint, memo]);
+
   useFocusEffect(
     useCallback(() => {
       fetchData();
@@ -108,6 +114,24 @@ export default function CheckoutScreen() {
     setUsePoint(Math.min(num, maxUse));
   };
 
+  // 비동기 접수(202)된 주문의 처리 결과를 기다린다
+  const waitForCheckout = async (ticketId, token) => {
+    for (let attempt = 0; attempt < 60; attempt++) {
+      await new Promise(resolve => setTimeout(resolve, 1000));
+      const response = await fetch(`${API_BASE_URL}/api/orders/checkout/${ticketId}`, {
+        headers: {
+          Authorization: `Bearer ${token}`,
+        },
+      });
+      if (!response.ok) continue;
+
+      const ticket = await response.json();
+      if (ticket.status === 'COMPLETED') return { orderId: ticket.orderId };
+      if (ticket.status === 'FAILED') return { error: ticket.message };
+    }
+    return { error: '주문 처리가 지연되고 있습니다. 주문 내역을 확인해주세요.' };
+  };
+
   const handleSubmit = async () => {
     if (!selectedAddress) {
       Alert.alert('알림', '배송지를 선택해주세요.');
@@ -124,6 +148,7 @@ export default function CheckoutScreen() {
         headers: {
           Authorization: `Bearer ${token}`,
           'Content-Type': 'application/json',
+          'Idempotency-Key': idempotencyKey.current,
         },
         body: JSON.stringify({
           addressId: selectedAddress.addressId,
@@ -132,8 +157,17 @@ export default function CheckoutScreen() {
         }),
       });
 
+      let orderData = response.ok ? await response.json() : null;
+      if (response.status === 202) {
+        const result = await waitForCheckout(orderData.ticketId, token);
+        if (result.error) {
+          Alert.alert('오류', result.error);
+          return;
+        }
+        orderData = result;
+      }
+
       if (response.ok) {
-        const orderData = await response.json();
 
         // 유저 포인트 업데이트
         const userData = await AsyncStorage.getItem('user');
@@ -33,14 +33,16 @@ export default function CoffeeDetail() {
   useEffect(() => {
     if (!productId) return;
 
-    // 상품 정보 조회
-    fetch(`${API_BASE_URL}/api/products/${productId}`)
+    // 상품 정보 + 리뷰 통계 + 문의 개수 한 번에 조회
+    fetch(`${API_BASE_URL}/api/products/${productId}/page`)
       .then(res => res.json())
       .then(data => {
-        setProduct(data);
-        if (data.options && data.options.length > 0) {
-          setSelectedOption(data.options[0]);
+        setProduct(data.product);
+        if (data.product.options && data.product.options.length > 0) {
+          setSelectedOption(data.product.options[0]);
         }
+        setReviewStats({ averageRating: data.averageRating, reviewCount: data.reviewCount });
+        setInquiryCount(data.inquiryCount);
         setLoading(false);
       })
       .catch(err => {
@@ -54,13 +56,7 @@ export default function CoffeeDetail() {
       .then(data => setReviews(data))
       .catch(err => console.error(err));
 
-    // 리뷰 통계
-    fetch(`${API_BASE_URL}/api/reviews/product/${productId}/stats`)
-      .then(res => res.json())
-      .then(data => setReviewStats(data))
-      .catch(err => console.error(err));
-
-    // 상품 문의 조회
+    // 상품 문의 조회 (개수는 위에서 함께 받음)
     fetchInquiries();
   }, [productId]);
 
@@ -74,11 +70,6 @@ export default function CoffeeDetail() {
       .then(res => res.json())
       .then(data => setInquiries(data))
       .catch(err => console.error(err));
-
-    fetch(`${API_BASE_URL}/api/inquiries/product/${productId}/count`)
-      .then(res => res.json())
-      .then(data => setInquiryCount(data.count || 0))
-      .catch(err => console.error(err));
   };
 
   const formatDate = (dateString) => {
@@ -134,9 +125,18 @@ export default function CoffeeDetail() {
 
     const token = await AsyncStorage.getItem('accessToken');
 
+    // 비로그인: 기기에 담아두고 로그인할 때 서버 장바구니에 합친다
     if (!token) {
-      Alert.alert('로그인 필요', '장바구니를 이용하려면 로그인이 필요합니다.', [
-        { text: '취소', style: 'cancel' },
+      const saved = await AsyncStorage.getItem('guestCart');
+      const guestCart = saved ? JSON.parse(saved) : [];
+      guestCart.push({
+        productId: product.productId,
+        optionId: selectedOption.optionId,
+        quantity,
+      });
+      await AsyncStorage.setItem('guestCart', JSON.stringify(guestCart));
+      Alert.alert('장바구니', '장바구니에 담았습니다. 로그인하면 장바구니에 합쳐집니다.', [
+        { text: '계속 쇼핑', style: 'cancel' },
         { text: '로그인', onPress: () => router.push('/login') },
       ]);
       return;
@@ -16,6 +16,8 @@ import { API_BASE_URL } from '../../config/oauth';
 export default function MyInquiriesScreen() {
   const router = useRouter();
   const [inquiries, setInquiries] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [loading, setLoading] = useState(true);
 
   useFocusEffect(
@@ -24,7 +26,7 @@ export default function MyInquiriesScreen() {
     }, [])
   );
 
-  const fetchInquiries = async () => {
+  const fetchInquiries = async (cursor = null) => {
     try {
       const token = await AsyncStorage.getItem('accessToken');
       if (!token) {
@@ -32,7 +34,10 @@ export default function MyInquiriesScreen() {
         return;
       }
 
-      const response = await fetch(`${API_BASE_URL}/api/inquiries/my`, {
+      const url = cursor
+        ? `${API_BASE_URL}/api/inquiries/my?cursor=${encodeURIComponent(cursor)}`
+        : `${API_BASE_URL}/api/inquiries/my`;
+      const response = await fetch(url, {
         headers: {
           Authorization: `Bearer ${token}`,
         },
@@ -40,15 +45,24 @@ export default function MyInquiriesScreen() {
 
       if (response.ok) {
         const data = await response.json();
-        setInquiries(data);
+        setInquiries(prev => (cursor ? [...prev, ...data.items] : data.items));
+        setNextCursor(data.hasNext ? data.nextCursor : null);
       }
     } catch (error) {
       console.error('문의 조회 에러:', error);
     } finally {
       setLoading(false);
+      setLoadingMore(false);
     }
   };
 
+  // 다음 페이지 불러오기
+  const loadMore = () => {
+    if (!nextCursor || loadingMore) return;
+    setLoadingMore(true);
+    fetchInquiries(nextCursor);
+  };
+
   const handleDelete = (inquiryId) => {
     Alert.alert('삭제 확인', '이 문의를 삭제하시겠습니까?', [
       { text: '취소', style: 'cancel' },
@@ -204,6 +218,8 @@ export default function MyInquiriesScreen() {
           keyExtractor={(item) => item.inquiryId.toString()}
           contentContainerStyle={styles.listContent}
           showsVerticalScrollIndicator={false}
+          onEndReached={loadMore}
+          onEndReachedThreshold={0.5}
         />
       )}
     </View>
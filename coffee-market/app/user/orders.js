@@ -24,13 +24,15 @@ const ORDER_STATUS = {
 export default function OrdersScreen() {
   const router = useRouter();
   const [orders, setOrders] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [loading, setLoading] = useState(true);
 
   useEffect(() => {
     fetchOrders();
   }, []);
 
-  const fetchOrders = async () => {
+  const fetchOrders = async (cursor = null) => {
     try {
       const token = await AsyncStorage.getItem('accessToken');
       if (!token) {
@@ -38,7 +40,10 @@ export default function OrdersScreen() {
         return;
       }
 
-      const response = await fetch(`${API_BASE_URL}/api/orders`, {
+      const url = cursor
+        ? `${API_BASE_URL}/api/orders?cursor=${encodeURIComponent(cursor)}`
+        : `${API_BASE_URL}/api/orders`;
+      const response = await fetch(url, {
         headers: {
           Authorization: `Bearer ${token}`,
         },
@@ -46,15 +51,24 @@ export default function OrdersScreen() {
 
       if (response.ok) {
         const data = await response.json();
-        setOrders(data);
+        setOrders(prev => (cursor ? [...prev, ...data.items] : data.items));
+        setNextCursor(data.hasNext ? data.nextCursor : null);
       }
     } catch (error) {
       console.error('주문 내역 조회 에러:', error);
     } finally {
       setLoading(false);
+      setLoadingMore(false);
     }
   };
 
+  // 다음 페이지 불러오기
+  const loadMore = () => {
+    if (!nextCursor || loadingMore) return;
+    setLoadingMore(true);
+    fetchOrders(nextCursor);
+  };
+
   const formatDate = (dateString) => {
     if (!dateString) return '';
     const date = new Date(dateString);
@@ -151,6 +165,8 @@ export default function OrdersScreen() {
           keyExtractor={(item) => item.orderId.toString()}
           contentContainerStyle={styles.listContent}
           showsVerticalScrollIndicator={false}
+          onEndReached={loadMore}
+          onEndReachedThreshold={0.5}
         />
       )}
     </View>
@@ -8,6 +8,7 @@ import {
   Image,
   TouchableOpacity,
   ActivityIndicator,
+  Alert,
 } from 'react-native';
 import AsyncStorage from '@react-native-async-storage/async-storage';
 import { API_BASE_URL } from '../../../config/oauth';
@@ -56,6 +57,34 @@ export default function OrderDetailScreen() {
     }
   };
 
+  // 주문 취소 / 구매 확정
+  const changeStatus = async (action) => {
+    try {
+      const token = await AsyncStorage.getItem('accessToken');
+      const response = await fetch(`${API_BASE_URL}/api/orders/${orderId}/${action}`, {
+        method: 'POST',
+        headers: {
+          Authorization: `Bearer ${token}`,
+        },
+      });
+
+      if (response.ok) {
+        setOrder(await response.json());
+      } else {
+        Alert.alert('오류', '주문 상태를 변경할 수 없습니다.');
+      }
+    } catch (error) {
+      console.error('주문 상태 변경 에러:', error);
+    }
+  };
+
+  const handleCancel = () => {
+    Alert.alert('주문 취소', '주문을 취소하시겠습니까?', [
+      { text: '아니오', style: 'cancel' },
+      { text: '취소하기', style: 'destructive', onPress: () => changeStatus('cancel') },
+    ]);
+  };
+
   const formatDate = (dateString) => {
     if (!dateString) return '-';
     const date = new Date(dateString);
@@ -216,6 +245,20 @@ export default function OrderDetailScreen() {
           )}
         </View>
 
+        {['PENDING', 'PAID', 'PREPARING'].includes(order.status) && (
+          <TouchableOpacity style={styles.actionButton} onPress={handleCancel}>
+            <Text style={styles.actionButtonText}>주문 취소</Text>
+          </TouchableOpacity>
+        )}
+        {order.status === 'SHIPPED' && (
+          <TouchableOpacity
+            style={[styles.actionButton, styles.confirmButton]}
+            onPress={() => changeStatus('confirm')}
+          >
+            <Text style={[styles.actionButtonText, styles.confirmButtonText]}>구매 확정</Text>
+          </TouchableOpacity>
+        )}
+
         <View style={{ height: 40 }} />
       </ScrollView>
     </View>
@@ -245,6 +288,30 @@ const styles = StyleSheet.create({
     color: '#8e8e93',
   },
 
+  // 취소 / 구매 확정
+  actionButton: {
+    marginHorizontal: 16,
+    marginTop: 8,
+    paddingVertical: 14,
+    borderRadius: 12,
+    backgroundColor: '#fff',
+    borderWidth: 1,
+    borderColor: '#d1d1d6',
+    alignItems: 'center',
+  },
+  actionButtonText: {
+    fontSize: 15,
+    fontWeight: '600',
+    color: '#1c1c1e',
+  },
+  confirmButton: {
+    backgroundColor: '#1c1c1e',
+    borderColor: '#1c1c1e',
+  },
+  confirmButtonText: {
+    color: '#fff',
+  },
+
   // 섹션
   section: {
     backgroundColor: '#fff',
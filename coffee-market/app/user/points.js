@@ -22,6 +22,8 @@ export default function PointsScreen() {
   const router = useRouter();
   const [currentPoint, setCurrentPoint] = useState(0);
   const [history, setHistory] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [loading, setLoading] = useState(true);
 
   useFocusEffect(
@@ -47,7 +49,8 @@ export default function PointsScreen() {
       if (response.ok) {
         const data = await response.json();
         setCurrentPoint(data.currentPoint);
-        setHistory(data.history);
+        setHistory(data.history.items);
+        setNextCursor(data.history.hasNext ? data.history.nextCursor : null);
       }
     } catch (error) {
       console.error('포인트 조회 에러:', error);
@@ -56,6 +59,34 @@ export default function PointsScreen() {
     }
   };
 
+  // 다음 페이지 불러오기
+  const loadMore = async () => {
+    if (!nextCursor || loadingMore) return;
+    setLoadingMore(true);
+
+    try {
+      const token = await AsyncStorage.getItem('accessToken');
+      const response = await fetch(
+        `${API_BASE_URL}/api/points/history?cursor=${encodeURIComponent(nextCursor)}`,
+        {
+          headers: {
+            Authorization: `Bearer ${token}`,
+          },
+        }
+      );
+
+      if (response.ok) {
+        const data = await response.json();
+        setHistory(prev => [...prev, ...data.items]);
+        setNextCursor(data.hasNext ? data.nextCursor : null);
+      }
+    } catch (error) {
+      console.error('포인트 내역 조회 에러:', error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const formatDate = (dateString) => {
     if (!dateString) return '';
     const date = new Date(dateString);
@@ -154,6 +185,8 @@ export default function PointsScreen() {
             keyExtractor={(item) => item.historyId.toString()}
             showsVerticalScrollIndicator={false}
             contentContainerStyle={styles.listContent}
+            onEndReached={loadMore}
+            onEndReachedThreshold={0.5}
           />
         )}
       </View>
@@ -16,6 +16,8 @@ import { API_BASE_URL } from '../../config/oauth';
 export default function MyReviewsScreen() {
   const router = useRouter();
   const [reviews, setReviews] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [loading, setLoading] = useState(true);
 
   useFocusEffect(
@@ -24,7 +26,7 @@ export default function MyReviewsScreen() {
     }, [])
   );
 
-  const fetchReviews = async () => {
+  const fetchReviews = async (cursor = null) => {
     try {
       const token = await AsyncStorage.getItem('accessToken');
       if (!token) {
@@ -32,7 +34,10 @@ export default function MyReviewsScreen() {
         return;
       }
 
-      const response = await fetch(`${API_BASE_URL}/api/reviews/my`, {
+      const url = cursor
+        ? `${API_BASE_URL}/api/reviews/my?cursor=${encodeURIComponent(cursor)}`
+        : `${API_BASE_URL}/api/reviews/my`;
+      const response = await fetch(url, {
         headers: {
           Authorization: `Bearer ${token}`,
         },
@@ -40,15 +45,24 @@ export default function MyReviewsScreen() {
 
       if (response.ok) {
         const data = await response.json();
-        setReviews(data);
+        setReviews(prev => (cursor ? [...prev, ...data.items] : data.items));
+        setNextCursor(data.hasNext ? data.nextCursor : null);
       }
     } catch (error) {
       console.error('리뷰 조회 에러:', error);
     } finally {
       setLoading(false);
+      setLoadingMore(false);
     }
   };
 
+  // 다음 페이지 불러오기
+  const loadMore = () => {
+    if (!nextCursor || loadingMore) return;
+    setLoadingMore(true);
+    fetchReviews(nextCursor);
+  };
+
   const handleDelete = (reviewId) => {
     Alert.alert('삭제 확인', '이 리뷰를 삭제하시겠습니까?', [
       { text: '취소', style: 'cancel' },
@@ -177,6 +191,8 @@ export default function MyReviewsScreen() {
           keyExtractor={(item) => item.reviewId.toString()}
           contentContainerStyle={styles.listContent}
           showsVerticalScrollIndicator={false}
+          onEndReached={loadMore}
+          onEndReachedThreshold={0.5}
         />
       )}
     </View>